@@ -0,0 +1,68 @@
+package benchmarks;
+
+import elements.Button;
+import elements.Checkbox;
+import elements.Link;
+import elements.RadioButton;
+import elements.TextInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк фабричных методов элементов. Уровень логов — {@code WARN} ({@code -Dframework.log.level=WARN}),
+ * чтобы измерять только стоимость создания элемента; влияние логов измеряет {@link LoggingBenchmark}.
+ *
+ * @author Хабибуллина Алина
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dframework.log.level=WARN")
+public class ElementFactoryBenchmark {
+
+    @Benchmark
+    public Button buttonByAttribute() {
+        return Button.byAttribute("data-qa", "search-button");
+    }
+
+    @Benchmark
+    public Button buttonByXPath() {
+        return Button.byXPath("//button[@type = 'submit']");
+    }
+
+    @Benchmark
+    public Button buttonByText() {
+        return Button.byText(" Выйти");
+    }
+
+    @Benchmark
+    public TextInput textInputByName() {
+        return TextInput.byName("email");
+    }
+
+    @Benchmark
+    public Link linkByHref() {
+        return Link.byHref("/personal");
+    }
+
+    @Benchmark
+    public Checkbox checkboxById() {
+        return Checkbox.byId("remember");
+    }
+
+    @Benchmark
+    public RadioButton radioButtonByValue() {
+        return RadioButton.byValue("65000");
+    }
+}
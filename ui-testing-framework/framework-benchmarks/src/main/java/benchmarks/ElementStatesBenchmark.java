@@ -0,0 +1,62 @@
+package benchmarks;
+
+import benchmarks.support.StubWebDriver;
+import com.codeborne.selenide.WebDriverRunner;
+import components.Component;
+import components.ElementStates;
+import elements.Button;
+import elements.Checkbox;
+import elements.Link;
+import elements.TextInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк пакетного чтения состояния элементов {@link ElementStates} на драйвере-заглушке:
+ * измеряет затраты фреймворка на подготовку аргументов и разбор результата одного вызова JavaScript.
+ *
+ * @author Хабибуллина Алина
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dframework.log.level=WARN")
+public class ElementStatesBenchmark {
+    private List<Component> components;
+
+    @Setup
+    public void setUp() {
+        WebDriverRunner.setWebDriver(new StubWebDriver());
+        components = Arrays.asList(
+                TextInput.byName("email"),
+                TextInput.byName("password"),
+                Checkbox.byId("remember"),
+                Button.byContainsClass("btn-primary"),
+                Link.byHref("/personal"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        WebDriverRunner.closeWebDriver();
+    }
+
+    @Benchmark
+    public ElementStates.Snapshot readFiveComponents() {
+        return ElementStates.read(components, "href");
+    }
+}
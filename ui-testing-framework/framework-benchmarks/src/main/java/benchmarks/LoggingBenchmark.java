@@ -0,0 +1,61 @@
+package benchmarks;
+
+import elements.Button;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк накладных расходов логирования в конструкторах элементов ({@code BaseElement} и подклассы).
+ * <p>
+ * Один и тот же элемент создаётся при уровне логирования {@code INFO} (логи конструкторов отключены
+ * и не форматируются) и {@code DEBUG} с асинхронной и синхронной записью в файл {@code target/jmh-logging.log}.
+ * Разница между результатами — стоимость логирования при создании элемента.
+ *
+ * @author Хабибуллина Алина
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoggingBenchmark {
+
+    @State(Scope.Thread)
+    public static class Element {
+        @Param({"//button[@type = 'submit']"})
+        public String xpath;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {
+            "-Dframework.log.level=DEBUG",
+            "-Dframework.log.appender=ASYNC",
+            "-Dframework.log.file=target/jmh-logging.log"})
+    public Button constructorLoggingDebugAsync(Element element) {
+        return Button.byXPath(element.xpath);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {
+            "-Dframework.log.level=DEBUG",
+            "-Dframework.log.appender=FILE",
+            "-Dframework.log.file=target/jmh-logging.log"})
+    public Button constructorLoggingDebugSync(Element element) {
+        return Button.byXPath(element.xpath);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dframework.log.level=INFO")
+    public Button constructorLoggingInfo(Element element) {
+        return Button.byXPath(element.xpath);
+    }
+}
@@ -0,0 +1,39 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.MainPageHH;
+import pages.SearchPageHH;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк создания объектов страниц сайта hh.ru (без открытия страницы в браузере).
+ *
+ * @author Хабибуллина Алина
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dframework.log.level=WARN")
+public class PageObjectBenchmark {
+
+    @Benchmark
+    public MainPageHH mainPageHH() {
+        return new MainPageHH();
+    }
+
+    @Benchmark
+    public SearchPageHH searchPageHH() {
+        return new SearchPageHH();
+    }
+}
@@ -0,0 +1,51 @@
+package benchmarks;
+
+import elements.LocatorRegistry;
+import elements.XPathBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк сборки XPath-выражений {@link XPathBuilder}: повторная сборка (из кэша {@link LocatorRegistry})
+ * и сборка с пустым кэшем.
+ *
+ * @author Хабибуллина Алина
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XPathBuilderBenchmark {
+
+    @Benchmark
+    public String buildAttribute() {
+        return XPathBuilder.create("button").withAttribute("data-qa", "search-button").build();
+    }
+
+    @Benchmark
+    public String buildContainsText() {
+        return XPathBuilder.create("a").containsText("базе резюме").build();
+    }
+
+    @Benchmark
+    public String buildTwoPredicates() {
+        return XPathBuilder.create("input").withAttribute("type", "checkbox").withAttribute("id", "remember").build();
+    }
+
+    @Benchmark
+    public String buildTwoPredicatesColdCache() {
+        LocatorRegistry.clear();
+        return XPathBuilder.create("input").withAttribute("type", "checkbox").withAttribute("id", "remember").build();
+    }
+}
@@ -0,0 +1,119 @@
+package benchmarks.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс {@code StubWebDriver} — драйвер-заглушка для запуска бенчмарков без браузера и сети.
+ * <p>
+ * Элементы на «странице» не находятся, а {@code executeScript} для списка целей (первый аргумент)
+ * возвращает заранее подготовленное состояние каждого элемента — этого достаточно, чтобы измерять
+ * накладные расходы самого фреймворка без сетевых задержек WebDriver.
+ *
+ * @author Хабибуллина Алина
+ */
+public class StubWebDriver implements WebDriver, JavascriptExecutor {
+    private final Map<String, Object> elementState = new HashMap<>();
+
+    /**
+     * Создаёт драйвер-заглушку.
+     */
+    public StubWebDriver() {
+        elementState.put("visible", true);
+        elementState.put("enabled", true);
+        elementState.put("value", "value");
+        elementState.put("text", "text");
+        elementState.put("checked", false);
+        elementState.put("attributes", Collections.emptyMap());
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        if (args.length > 0 && args[0] instanceof List) {
+            int size = ((List<?>) args[0]).size();
+            List<Object> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(elementState);
+            }
+            return result;
+        }
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return Collections.singletonMap("ready", true);
+    }
+
+    @Override
+    public void get(String url) {
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        throw new NoSuchElementException("StubWebDriver has no elements: " + by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Collections.singleton("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("StubWebDriver does not support switchTo()");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("StubWebDriver does not support navigate()");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("StubWebDriver does not support manage()");
+    }
+}
@@ -2,10 +2,24 @@ package basePage;
 
 import com.codeborne.selenide.Selenide;
 import components.Component;
+import components.Navigation;
+import components.WaitProfile;
+import config.FrameworkConfig;
+import fixtures.Fixtures;
+import metrics.StepMetrics;
+import network.NetworkBlocker;
+import network.NetworkPolicy;
+import org.openqa.selenium.WebDriverException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import overlay.Overlay;
+import overlay.Overlays;
+import readiness.Readiness;
+import readiness.ReadinessCondition;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 
 import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Selenide.$x;
@@ -15,6 +29,11 @@ import static com.codeborne.selenide.Selenide.$x;
  * <p>
  * Обеспечивает общую структуру и поведение страниц, включая открытие, обновление и ожидание загрузки страницы.
  * Наследует от {@link Component} и использует главный элемент страницы в качестве проверки загрузки страницы.
+ * <p>
+ * Готовность страницы определяется условиями {@link #readiness()}, которые вычисляются в браузере
+ * и сообщают о готовности сразу после её наступления. Подклассы могут переопределить условия
+ * (например, добавить {@link Readiness#networkIdle(Duration)}) и время ожидания {@link #pageLoadTimeout()}.
+ * Профиль ожидания элементов страницы задаётся переопределением {@link #pageWaitProfile()}.
  *
  * @author Хабибуллина Алина
  */
@@ -26,6 +45,10 @@ public abstract class BasePage extends Component {
 
     private static final Logger logger = LoggerFactory.getLogger(BasePage.class);
 
+    private static final long NAVIGATION_GRACE_MILLIS =
+            FrameworkConfig.get().getLong("framework.navigation.graceMs", 1000);
+    private static final long NAVIGATION_POLL_MILLIS = 250;
+
     /**
      * Конструктор страницы с указанием URL и XPath главного элемента.
      *
@@ -33,9 +56,10 @@ public abstract class BasePage extends Component {
      * @param mainElementXPath XPath главного элемента страницы (используется как индикатор загрузки).
      */
     protected BasePage(String url, String mainElementXPath) {
-        super($x(mainElementXPath));
+        super($x(mainElementXPath), mainElementXPath);
         this.url = url;
-        logger.info("Initialized page with URL: {}", url);
+        ownComponents();
+        logger.debug("Initialized page with URL: {}", url);
     }
 
     /**
@@ -45,18 +69,134 @@ public abstract class BasePage extends Component {
      * @param mainElement  главный компонент страницы.
      */
     protected BasePage(String url, Component mainElement) {
-        super(mainElement.getElement());
+        super(mainElement.getElement(), mainElement.getXPath());
         this.url = url;
-        logger.info("Initialized page with URL: {} and main element: {}", url, mainElement);
+        ownComponents();
+        logger.debug("Initialized page with URL: {} and main element: {}", url, xpath);
     }
 
     /**
      * Открывает страницу по заданному URL и ожидает её полной загрузки.
+     * <p>
+     * В режиме {@code -Dframework.fixtures.mode=replay} страница открывается с локального сервера fixtures,
+     * в режиме {@code record} — сохраняется в fixtures после загрузки (см. {@link Fixtures}).
+     * Перед переходом к браузеру применяется политика блокировки запросов {@link #networkPolicy()}
+     * и регистрируются всплывающие элементы {@link #overlays()}.
+     * Если страница уже открыта заранее ({@link #preload()}), переход пропускается и только ожидается готовность.
      */
     public void openPage() {
         logger.info("Opening page: {}", url);
-        Selenide.open(url);
+        enterPage();
+        String target = Fixtures.resolve(url);
+        NetworkBlocker.apply(networkPolicy());
+        Overlays.apply(overlays());
+        if (Navigation.consumePreloaded(target)) {
+            logger.debug("Page was preloaded before the test: {}", target);
+        } else {
+            Navigation.navigated();
+            StepMetrics.time("open", null, () -> Selenide.open(target));
+        }
         waitForPageToLoad();
+        Fixtures.record(url);
+    }
+
+    /**
+     * Открывает страницу в браузере текущего потока, не дожидаясь условий {@link #readiness()}, и применяет политику
+     * блокировки запросов. Используется для заранее открываемых страниц ({@code warmup.WarmUp}).
+     *
+     * @return адрес, по которому открыта страница.
+     */
+    public String preload() {
+        String target = Fixtures.resolve(url);
+        NetworkBlocker.apply(networkPolicy());
+        Overlays.apply(overlays());
+        Selenide.open(target);
+        return target;
+    }
+
+    /**
+     * Открывает страницу и сразу после загрузки документа проверяет, отображается ли её главный элемент.
+     * В отличие от {@link #openPage()} не ждёт условий {@link #readiness()} и не бросает исключения, если
+     * страница недоступна: подходит для проверок вида «сессия ещё действительна», когда сайт
+     * перенаправляет на форму входа.
+     *
+     * @return {@code true}, если главный элемент страницы отображается.
+     */
+    public boolean openIfAccessible() {
+        logger.info("Checking access to page: {}", url);
+        enterPage();
+        NetworkBlocker.apply(networkPolicy());
+        Navigation.navigated();
+        StepMetrics.time("open", null, () -> Selenide.open(Fixtures.resolve(url)));
+        return element.is(visible);
+    }
+
+    /**
+     * Выполняет действие, уводящее с этой страницы (клик по ссылке, отправку формы), и возвращает объект
+     * следующей страницы, как только браузер перешёл на неё и её условия {@link #readiness()} выполнены:
+     * <pre>{@code
+     * SearchPageHH searchPage = mainPage.navigateTo(mainPage::clickSearchButton, SearchPageHH.class);
+     * }</pre>
+     * Переход определяется по событиям DevTools ({@code Page.frameNavigated}), поэтому ожидание заканчивается
+     * сразу после того, как браузер принял новый документ. Если действие не вызвало перехода (одностраничное
+     * приложение перерисовало содержимое без смены адреса), то после {@code framework.navigation.graceMs}
+     * (по умолчанию 1000 мс) ожидание заканчивается и тогда, когда появился главный элемент следующей страницы,
+     * — что наступит раньше. В браузерах без DevTools ожидаются только условия готовности следующей страницы. Объект страницы выдаётся {@link Pages#get(Class)}.
+     * <p>
+     * Как и в {@link #openPage()}, перед действием применяется политика блокировки запросов {@link #networkPolicy()}
+     * следующей страницы, а после перехода страница сохраняется в fixtures в режиме {@code record}. Ожидание перехода
+     * и ожидание готовности вместе укладываются в {@link #pageLoadTimeout()} следующей страницы.
+     *
+     * @param action    действие, вызывающее переход.
+     * @param pageClass класс следующей страницы с конструктором без параметров.
+     * @param <P>       тип следующей страницы.
+     * @return объект следующей страницы.
+     */
+    public <P extends BasePage> P navigateTo(Runnable action, Class<P> pageClass) {
+        P page = Pages.get(pageClass);
+        BasePage next = page;
+        NavigationEvents events = NavigationEvents.current();
+        long before = events == null ? 0 : events.count();
+        NetworkBlocker.apply(next.networkPolicy());
+        Overlays.apply(overlays());
+        long started = System.nanoTime();
+        long deadline = started + next.pageLoadTimeout().toNanos();
+        action.run();
+        if (events != null && !awaitNavigation(events, before, next, deadline)) {
+            logger.info("No navigation after the action on {}, waiting for {} readiness",
+                    getClass().getSimpleName(), pageClass.getSimpleName());
+        }
+        Navigation.navigated();
+        StepMetrics.record("navigate", null, System.nanoTime() - started);
+        // закрытые методы вызываются через BasePage: у переменной типа P их нет
+        next.enterPage();
+        next.waitForPageToLoad(Duration.ofNanos(Math.max(0, deadline - System.nanoTime())));
+        Fixtures.record(next.url);
+        logger.info("Navigated to {}", pageClass.getSimpleName());
+        return page;
+    }
+
+    /**
+     * Ждёт перехода после действия, а по истечении {@code framework.navigation.graceMs} — перехода или появления
+     * главного элемента следующей страницы, что наступит раньше.
+     *
+     * @return {@code true}, если переход произошёл.
+     */
+    private boolean awaitNavigation(NavigationEvents events, long before, BasePage page, long deadline) {
+        long slice = Duration.ofMillis(NAVIGATION_GRACE_MILLIS).toNanos();
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            if (events.awaitAfter(before, Duration.ofNanos(Math.min(slice, remaining)))) {
+                return true;
+            }
+            if (page.element.is(visible)) {
+                return false;
+            }
+            slice = Duration.ofMillis(NAVIGATION_POLL_MILLIS).toNanos();
+        }
     }
 
     /**
@@ -64,17 +204,103 @@ public abstract class BasePage extends Component {
      */
     public void refreshPage() {
         logger.info("Refreshing the page");
-        Selenide.refresh();
+        Navigation.navigated();
+        StepMetrics.time("refresh", null, () -> Selenide.refresh());
         waitForPageToLoad();
     }
 
     /**
-     * Ожидает, что главный элемент страницы станет видимым.
-     * Этот метод используется как индикатор полной загрузки страницы.
+     * Ожидает готовности страницы: сначала в браузере проверяются условия {@link #readiness()},
+     * затем — видимость главного элемента (после выполнения условий проверка проходит сразу).
      */
     public void waitForPageToLoad() {
-        logger.info("Waiting for the main element to become visible...");
-        element.shouldBe(visible, Duration.ofSeconds(10));
-        logger.info("Page is loaded successfully.");
+        waitForPageToLoad(pageLoadTimeout());
+    }
+
+    /**
+     * Ожидает готовности страницы не дольше заданного времени.
+     *
+     * @param timeout время ожидания.
+     */
+    private void waitForPageToLoad(Duration timeout) {
+        long started = System.nanoTime();
+        logger.debug("Waiting for the page to become ready...");
+        try {
+            Readiness.await(timeout, readiness());
+        } catch (WebDriverException e) {
+            logger.info("Readiness script failed, falling back to main element wait: {}", e.getMessage());
+        } finally {
+            StepMetrics.record("pageReady", null, System.nanoTime() - started);
+        }
+        Duration remaining = timeout.minusNanos(System.nanoTime() - started);
+        timed("wait", () -> element.shouldBe(visible, remaining.isNegative() ? Duration.ZERO : remaining));
+        logger.debug("Page is loaded successfully.");
+    }
+
+    /**
+     * Условия готовности страницы. По умолчанию — разбор HTML документа и видимость главного элемента;
+     * загрузка картинок и сторонних скриптов не ожидается.
+     *
+     * @return условия готовности страницы.
+     */
+    protected ReadinessCondition[] readiness() {
+        if (xpath == null) {
+            return new ReadinessCondition[]{Readiness.domContentLoaded()};
+        }
+        return new ReadinessCondition[]{Readiness.domContentLoaded(), Readiness.elementVisible(xpath)};
+    }
+
+    /**
+     * Политика блокировки сетевых запросов при открытии страницы. По умолчанию блокируются аналитика,
+     * реклама, изображения, шрифты и медиа ({@link NetworkPolicy#defaults()}); страница, которой нужны
+     * эти ресурсы, может разрешить их, например {@code NetworkPolicy.defaults().allow(ResourceType.IMAGE)}.
+     *
+     * @return политика блокировки запросов.
+     */
+    protected NetworkPolicy networkPolicy() {
+        return NetworkPolicy.defaults();
+    }
+
+    /**
+     * Всплывающие элементы (модальные окна, баннеры cookies), которые могут появиться на этой странице
+     * или после действий на ней. {@link Overlays} закрывает их в браузере, как только они появятся,
+     * поэтому тестам не нужно проверять их наличие.
+     *
+     * @return всплывающие элементы (по умолчанию нет).
+     */
+    protected List<Overlay> overlays() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Профиль ожидания элементов этой страницы (её полей), у которых нет собственного профиля
+     * ({@link Component#withWait(WaitProfile)}). Запрашивается при каждом ожидании, поэтому создание
+     * объекта другой страницы не меняет время ожидания элементов этой:
+     * <pre>{@code
+     * @Override
+     * protected WaitProfile pageWaitProfile() {
+     *     return WaitProfile.failFast();
+     * }
+     * }</pre>
+     *
+     * @return профиль ожидания (по умолчанию — как в Selenide).
+     */
+    @Override
+    protected WaitProfile pageWaitProfile() {
+        return WaitProfile.defaults();
+    }
+
+    /**
+     * Максимальное время ожидания готовности страницы.
+     *
+     * @return время ожидания (по умолчанию 10 секунд).
+     */
+    protected Duration pageLoadTimeout() {
+        return Duration.ofSeconds(10);
+    }
+
+    private void enterPage() {
+        StepMetrics.enterPage(getClass());
+        WaitProfile.enterPage(pageWaitProfile());
     }
 }
@@ -0,0 +1,111 @@
+package basePage;
+
+import com.codeborne.selenide.WebDriverRunner;
+import driver.DevToolsSessions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Класс {@code NavigationEvents} считает переходы главного фрейма вкладки по событиям DevTools.
+ * <p>
+ * Браузер присылает {@code Page.frameNavigated}, как только новый документ принят к отображению, и
+ * {@code Page.navigatedWithinDocument} при переходах одностраничных приложений ({@code history.pushState}).
+ * {@link #awaitAfter(long, Duration)} просыпается по событию, а не по такту опроса. Ожидание построено
+ * на {@link ReentrantLock}, а не на мониторе объекта: ожидающий виртуальный поток не занимает поток-носитель.
+ *
+ * @author Хабибуллина Алина
+ */
+final class NavigationEvents {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition navigated = lock.newCondition();
+    private long committed;
+    private volatile String mainFrame;
+
+    @SuppressWarnings("unchecked")
+    private NavigationEvents(DevTools devTools) {
+        devTools.send(new Command<>("Page.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<Map<String, Object>>("Page.frameNavigated", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    Map<String, Object> frame = (Map<String, Object>) event.get("frame");
+                    if (frame != null && frame.get("parentId") == null) {
+                        mainFrame = (String) frame.get("id");
+                        committed();
+                    }
+                });
+        devTools.addListener(new Event<Map<String, Object>>("Page.navigatedWithinDocument",
+                        input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    String frame = mainFrame;
+                    if (frame == null || frame.equals(event.get("frameId"))) {
+                        committed();
+                    }
+                });
+    }
+
+    /**
+     * Возвращает счётчик переходов для вкладки браузера текущего потока, подключая его при первом обращении.
+     * Без счётчика переход на следующую страницу определяется только по её условиям готовности.
+     *
+     * @return счётчик или {@code null}, если браузер не поддерживает DevTools.
+     */
+    static NavigationEvents current() {
+        return DevToolsSessions.handler(WebDriverRunner.getAndCheckWebDriver(), NavigationEvents.class,
+                NavigationEvents::new, "navigation tracking");
+    }
+
+    /**
+     * @return число переходов главного фрейма с момента подключения.
+     */
+    long count() {
+        lock.lock();
+        try {
+            return committed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Ждёт перехода главного фрейма после заданного значения счётчика.
+     *
+     * @param before  значение {@link #count()} до действия, вызывающего переход.
+     * @param timeout время ожидания.
+     * @return {@code true}, если переход произошёл.
+     */
+    boolean awaitAfter(long before, Duration timeout) {
+        long remaining = timeout.toNanos();
+        lock.lock();
+        try {
+            while (committed <= before) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = navigated.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ожидание перехода на страницу прервано", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void committed() {
+        lock.lock();
+        try {
+            committed++;
+            navigated.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package basePage;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Класс {@code Pages} выдаёт объекты страниц, привязанные к текущему потоку.
+ * <p>
+ * Элементы страниц ({@code $x(...)}) ищутся в браузере того потока, который выполняет действие,
+ * поэтому объект страницы нельзя разделять между параллельно выполняемыми тестами.
+ * {@link #get(Class)} создаёт отдельный экземпляр страницы для каждого потока и возвращает его
+ * повторно в рамках одного теста; после теста экземпляры сбрасываются методом {@link #clear()}
+ * (это делает {@code TestContextExtension}).
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Pages {
+    private static final ThreadLocal<Map<Class<?>, BasePage>> PAGES = ThreadLocal.withInitial(HashMap::new);
+
+    private Pages() {
+    }
+
+    /**
+     * Возвращает объект страницы текущего потока, создавая его при первом обращении.
+     *
+     * @param pageClass класс страницы с конструктором без параметров.
+     * @param <P>       тип страницы.
+     * @return объект страницы, принадлежащий текущему потоку.
+     */
+    public static <P extends BasePage> P get(Class<P> pageClass) {
+        return pageClass.cast(PAGES.get().computeIfAbsent(pageClass, Pages::create));
+    }
+
+    /**
+     * Удаляет все объекты страниц, созданные в текущем потоке.
+     */
+    public static void clear() {
+        PAGES.remove();
+    }
+
+    private static BasePage create(Class<?> pageClass) {
+        try {
+            return (BasePage) pageClass.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Не удалось создать страницу " + pageClass.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("У страницы " + pageClass.getName() + " нет конструктора без параметров", e);
+        }
+    }
+}
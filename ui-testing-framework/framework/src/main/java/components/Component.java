@@ -1,7 +1,13 @@
 package components;
 
 import com.codeborne.selenide.SelenideElement;
-import static com.codeborne.selenide.Condition.hidden;
+import com.codeborne.selenide.WebElementCondition;
+import metrics.StepMetrics;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import static com.codeborne.selenide.Condition.visible;
 
 /**
@@ -9,6 +15,16 @@ import static com.codeborne.selenide.Condition.visible;
  * обеспечивающую базовую функциональность для компонентов пользовательского интерфейса.
  * <p>
  * Класс реализует проверки отображения элементов и предоставляет доступ к самому {@link SelenideElement}.
+ * Действия компонентов выполняются через {@link #query(String, Function)} и {@link #perform(String, Consumer)}:
+ * их длительность попадает в {@link StepMetrics}, а найденный элемент переиспользуется между
+ * последовательными действиями ({@link ElementCache}). Ожидания состояний выполняются через
+ * {@link #waitUntil(WebElementCondition)} по профилю {@link WaitProfile} компонента или страницы, которой
+ * он принадлежит.
+ * <p>
+ * Компонент принадлежит странице, если создан во время создания её объекта (поля страницы, в том числе
+ * {@link Lazy}-поля): конструктор {@code BasePage} открывает область страницы ({@link #ownComponents()}),
+ * которая закрывается при первом действии с любым компонентом потока. Компоненты, созданные вне этой области,
+ * относятся к странице, открытой последней ({@code BasePage.openPage()}, {@code BasePage.navigateTo(...)}).
  *
  * @author Хабибуллина Алина
  */
@@ -18,27 +34,110 @@ public abstract class Component {
      */
     protected SelenideElement element;
 
+    /**
+     * XPath-выражение, по которому найден элемент, или {@code null}, если компонент создан без XPath.
+     */
+    protected final String xpath;
+
+    private static final ThreadLocal<Component> PAGE_SCOPE = new ThreadLocal<>();
+
+    private WaitProfile waitProfile;
+    private Component page;
+
     /**
      * Конструктор для инициализации компонента с Selenide.
      *
      * @param element {@link SelenideElement}, соответствующий компоненту.
      */
     protected Component(SelenideElement element) {
+        this(element, null);
+    }
+
+    /**
+     * Конструктор для инициализации компонента с Selenide и известным XPath.
+     *
+     * @param element {@link SelenideElement}, соответствующий компоненту.
+     * @param xpath   XPath-выражение, по которому найден элемент.
+     */
+    protected Component(SelenideElement element, String xpath) {
         this.element = element;
+        this.xpath = xpath;
+        this.page = PAGE_SCOPE.get();
     }
 
     /**
      * Проверяет, отображается ли элемент на странице.
      */
     public void isDisplayed() {
-        element.shouldBe(visible);
+        waitUntil(visible);
     }
 
     /**
      * Проверяет, не отображается ли элемент на странице.
      */
     public void isNotDisplayed() {
-        element.shouldNotBe(visible);
+        // элемент может исчезнуть из документа, поэтому ожидание всегда выполняется с поиском
+        timed("wait", () -> waitProfile().await(element, visible, false));
+    }
+
+    /**
+     * Задаёт компоненту собственный профиль ожидания вместо профиля страницы.
+     *
+     * @param profile профиль ожидания.
+     * @param <C>     тип компонента.
+     * @return этот же компонент.
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends Component> C withWait(WaitProfile profile) {
+        this.waitProfile = profile;
+        return (C) this;
+    }
+
+    /**
+     * Возвращает профиль ожидания компонента: собственный, если задан, иначе профиль страницы, которой
+     * принадлежит компонент, а для компонентов без страницы — профиль страницы, открытой последней.
+     *
+     * @return профиль ожидания.
+     */
+    public WaitProfile waitProfile() {
+        if (waitProfile != null) {
+            return waitProfile;
+        }
+        return page != null ? page.pageWaitProfile() : WaitProfile.ofCurrentPage();
+    }
+
+    /**
+     * Профиль ожидания компонентов, принадлежащих этому компоненту как странице. Переопределяется {@code BasePage}.
+     *
+     * @return профиль ожидания (по умолчанию — профиль страницы, открытой последней).
+     */
+    protected WaitProfile pageWaitProfile() {
+        return WaitProfile.ofCurrentPage();
+    }
+
+    /**
+     * Делает этот компонент страницей: он и компоненты, создаваемые дальше в текущем потоке до первого действия
+     * с элементами, принадлежат ему. Вызывается конструктором {@code BasePage}.
+     */
+    protected final void ownComponents() {
+        page = this;
+        PAGE_SCOPE.set(this);
+    }
+
+    /**
+     * @return страница, в области которой сейчас создаются компоненты потока, или {@code null}.
+     */
+    static Component pageInScope() {
+        return PAGE_SCOPE.get();
+    }
+
+    /**
+     * Привязывает компонент к странице, например созданный {@link Lazy}-полем этой страницы.
+     *
+     * @param owner страница.
+     */
+    void bindTo(Component owner) {
+        this.page = owner;
     }
 
     /**
@@ -49,5 +148,118 @@ public abstract class Component {
     public SelenideElement getElement() {
         return element;
     }
+
+    /**
+     * Возвращает XPath-выражение компонента.
+     *
+     * @return XPath или {@code null}, если компонент создан без XPath.
+     */
+    public String getXPath() {
+        return xpath;
+    }
+
+    /**
+     * Ждёт, пока элемент будет удовлетворять условию, по профилю {@link #waitProfile()}.
+     *
+     * @param condition условие Selenide (например, {@code visible}).
+     */
+    protected void waitUntil(WebElementCondition condition) {
+        awaitCondition(condition, true);
+    }
+
+    /**
+     * Ждёт, пока элемент перестанет удовлетворять условию, по профилю {@link #waitProfile()}.
+     *
+     * @param condition условие Selenide (например, {@code selected}).
+     */
+    protected void waitUntilNot(WebElementCondition condition) {
+        awaitCondition(condition, false);
+    }
+
+    /**
+     * Выполняет действие, не изменяющее страницу (ожидание, чтение состояния), над найденным ранее элементом
+     * из {@link ElementCache} и записывает его длительность в {@link StepMetrics}.
+     * Если элемент ещё не найден или устарел, действие выполняется с обычным поиском.
+     *
+     * @param action имя действия (например, {@code "wait"}).
+     * @param step   действие над элементом.
+     * @param <T>    тип результата.
+     * @return результат действия.
+     */
+    protected <T> T query(String action, Function<SelenideElement, T> step) {
+        return timed(action, () -> onElement(step));
+    }
+
+    /**
+     * Выполняет действие, которое может изменить страницу (клик, ввод текста), и записывает его длительность.
+     * После действия кэш найденных элементов потока очищается.
+     *
+     * @param action имя действия (например, {@code "click"}).
+     * @param step   действие над элементом.
+     */
+    protected void perform(String action, Consumer<SelenideElement> step) {
+        try {
+            timed(action, () -> onElement(e -> {
+                step.accept(e);
+                return null;
+            }));
+        } finally {
+            ElementCache.invalidate();
+        }
+    }
+
+    /**
+     * Выполняет действие с элементом и записывает его длительность в {@link StepMetrics}
+     * под страницей и XPath компонента.
+     *
+     * @param action имя действия (например, {@code "click"}).
+     * @param step   действие.
+     */
+    protected void timed(String action, Runnable step) {
+        PAGE_SCOPE.remove();
+        StepMetrics.time(page == null ? null : page.getClass(), action, xpath, step);
+    }
+
+    /**
+     * Выполняет действие с элементом, возвращающее значение, и записывает его длительность в {@link StepMetrics}.
+     *
+     * @param action имя действия (например, {@code "getValue"}).
+     * @param step   действие.
+     * @param <T>    тип результата.
+     * @return результат действия.
+     */
+    protected <T> T timed(String action, Supplier<T> step) {
+        PAGE_SCOPE.remove();
+        return StepMetrics.time(page == null ? null : page.getClass(), action, xpath, step);
+    }
+
+    private void awaitCondition(WebElementCondition condition, boolean expected) {
+        WaitProfile profile = waitProfile();
+        timed("wait", () -> {
+            // Проверка найденного ранее элемента не бросает исключений: устаревший элемент просто не удовлетворяет
+            // условию. Поэтому кэш используется только для одной проверки выполнения условия, а ожидание
+            // (и ожидание нарушения условия) выполняется с поиском элемента.
+            SelenideElement cached = expected ? ElementCache.lookup(this) : null;
+            if (cached != null && cached.is(condition)) {
+                return;
+            }
+            profile.await(element, condition, expected);
+        });
+    }
+
+    private <T> T onElement(Function<SelenideElement, T> step) {
+        SelenideElement cached = ElementCache.lookup(this);
+        if (cached != null) {
+            try {
+                return step.apply(cached);
+            } catch (RuntimeException | AssertionError e) {
+                if (!ElementCache.isStale(e)) {
+                    throw e;
+                }
+                ElementCache.evict(this);
+            }
+        }
+        return step.apply(element);
+    }
 }
 
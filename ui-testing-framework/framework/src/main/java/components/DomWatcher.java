@@ -0,0 +1,78 @@
+package components;
+
+import driver.DevToolsSessions;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Класс {@code DomWatcher} отслеживает изменения DOM в браузере без опроса со стороны теста.
+ * <p>
+ * В каждый документ внедряется {@code MutationObserver}, который при любом изменении дерева или атрибутов
+ * вызывает DevTools-привязку {@code Runtime.addBinding}. Чтобы анимации и пакетные перерисовки не порождали
+ * поток событий, уведомления объединяются в странице: первое изменение сообщается сразу, а все изменения
+ * следующих 16 мс (кадр отрисовки) — одним уведомлением в конце этого интервала. Браузер сам присылает событие
+ * {@code Runtime.bindingCalled}, по которому увеличивается {@link #version()}, поэтому проверка
+ * «изменилась ли страница» не требует обращения к WebDriver. Доступен в браузерах семейства Chromium.
+ *
+ * @author Хабибуллина Алина
+ */
+final class DomWatcher {
+    private static final String BINDING = "__frameworkDomChanged";
+    private static final long NOTIFY_INTERVAL_MILLIS = 16;
+    private static final String OBSERVER_SCRIPT =
+            "(function () {"
+                    + "  if (window.__frameworkDomObserver || typeof window." + BINDING + " !== 'function') { return; }"
+                    + "  var pending = false, dirty = false;"
+                    + "  var notify = function () {"
+                    + "    try { window." + BINDING + "(''); } catch (e) {}"
+                    + "    pending = true;"
+                    + "    setTimeout(function () { pending = false; if (dirty) { dirty = false; notify(); } }, "
+                    + NOTIFY_INTERVAL_MILLIS + ");"
+                    + "  };"
+                    + "  window.__frameworkDomObserver = new MutationObserver(function () {"
+                    + "    if (pending) { dirty = true; } else { notify(); }"
+                    + "  });"
+                    + "  window.__frameworkDomObserver.observe(document,"
+                    + "    {childList: true, subtree: true, attributes: true});"
+                    + "})();";
+
+    private final AtomicLong version = new AtomicLong();
+
+    private DomWatcher(DevTools devTools) {
+        devTools.send(new Command<>("Runtime.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<Map<String, Object>>("Runtime.bindingCalled", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    if (BINDING.equals(event.get("name"))) {
+                        version.incrementAndGet();
+                    }
+                });
+        devTools.send(new Command<>("Runtime.addBinding", Collections.singletonMap("name", BINDING)));
+        devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument",
+                Collections.singletonMap("source", OBSERVER_SCRIPT)));
+        devTools.send(new Command<>("Runtime.evaluate", Collections.singletonMap("expression", OBSERVER_SCRIPT)));
+    }
+
+    /**
+     * Возвращает наблюдатель для текущей вкладки драйвера, подключая его при первом обращении.
+     *
+     * @param driver драйвер.
+     * @return наблюдатель или {@code null}, если браузер не поддерживает DevTools.
+     */
+    static DomWatcher of(WebDriver driver) {
+        return DevToolsSessions.handler(driver, DomWatcher.class, DomWatcher::new, "element cache");
+    }
+
+    /**
+     * @return счётчик изменений DOM; увеличивается при каждом срабатывании {@code MutationObserver}.
+     */
+    long version() {
+        return version.get();
+    }
+}
@@ -0,0 +1,133 @@
+package components;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.ex.ElementNotFound;
+import config.FrameworkConfig;
+import driver.Drivers;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Класс {@code ElementCache} хранит найденные элементы страницы, чтобы последовательные действия
+ * с одним компонентом не искали его в браузере заново.
+ * <p>
+ * Selenide ищет элемент перед каждой командой: {@code Checkbox.check()} — это поиск для проверки
+ * состояния, поиск для ожидания доступности и поиск для клика. С кэшем элемент ищется один раз,
+ * а следующие команды выполняются над уже найденным {@code WebElement}. Запись кэша считается устаревшей,
+ * если:
+ * <ul>
+ *     <li>браузер перешёл на другую страницу ({@link Navigation});</li>
+ *     <li>в DOM что-то изменилось — об этом сообщает {@link DomWatcher} без обращения к WebDriver;</li>
+ *     <li>компонент выполнил изменяющее действие (клик, ввод текста): его последствия в DOM
+ *     могут ещё не дойти до {@link DomWatcher}, поэтому кэш потока очищается сразу.</li>
+ * </ul>
+ * Если найденный элемент всё же оказался отсоединён от документа, действие повторяется с обычным поиском.
+ * Кэш работает в браузерах семейства Chromium и отключается свойством {@code -Dframework.elements.cache=false}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class ElementCache {
+    private static final boolean ENABLED =
+            FrameworkConfig.get().getBoolean("framework.elements.cache", true);
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private ElementCache() {
+    }
+
+    /**
+     * Возвращает элемент компонента, найденный ранее на текущей странице, или ищет его один раз.
+     *
+     * @param component компонент.
+     * @return элемент, привязанный к найденному {@code WebElement}, или {@code null}, если кэш недоступен
+     * или элемента пока нет на странице (тогда нужно использовать ленивый {@link Component#getElement()}).
+     */
+    static SelenideElement lookup(Component component) {
+        if (!ENABLED || !WebDriverRunner.hasWebDriverStarted()) {
+            return null;
+        }
+        State state = STATE.get();
+        state.sync(WebDriverRunner.getWebDriver());
+        if (state.watcher == null) {
+            return null;
+        }
+        long version = state.watcher.version();
+        Entry entry = state.entries.get(component);
+        if (entry != null && entry.version == version) {
+            return entry.element;
+        }
+        SelenideElement found;
+        try {
+            found = Selenide.$(component.getElement().toWebElement());
+        } catch (NoSuchElementException | ElementNotFound e) {
+            state.entries.remove(component);
+            return null;
+        }
+        state.entries.put(component, new Entry(found, version));
+        return found;
+    }
+
+    /**
+     * Удаляет из кэша элемент компонента.
+     *
+     * @param component компонент.
+     */
+    static void evict(Component component) {
+        STATE.get().entries.remove(component);
+    }
+
+    /**
+     * Очищает кэш текущего потока.
+     */
+    public static void invalidate() {
+        STATE.get().entries.clear();
+    }
+
+    /**
+     * Проверяет, вызвана ли ошибка обращением к отсоединённому от документа элементу.
+     *
+     * @param error ошибка действия.
+     * @return {@code true}, если среди причин есть {@link StaleElementReferenceException}.
+     */
+    static boolean isStale(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof StaleElementReferenceException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class State {
+        private final Map<Component, Entry> entries = new IdentityHashMap<>();
+        private WebDriver driver;
+        private DomWatcher watcher;
+        private long epoch = -1;
+
+        void sync(WebDriver current) {
+            if (current != driver || epoch != Navigation.epoch()) {
+                // наблюдатель привязан к вкладке: после перехода драйвер может работать уже с другой вкладкой
+                driver = current;
+                epoch = Navigation.epoch();
+                watcher = DomWatcher.of(Drivers.unwrap(current));
+                entries.clear();
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final SelenideElement element;
+        private final long version;
+
+        Entry(SelenideElement element, long version) {
+            this.element = element;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package components;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Класс {@code ElementList} — список однотипных элементов страницы (результаты поиска, карточки, пункты меню).
+ * <p>
+ * Перебор элементов через Selenide стоит нескольких команд WebDriver на каждый элемент. {@code ElementList}
+ * читает текст и нужные атрибуты элементов страницами по {@code framework.elements.pageSize} (50) одним
+ * скриптом на страницу и отдаёт их ленивым {@link Stream}: следующая страница читается, только когда поток
+ * до неё дошёл. Отбор по тексту ({@link #containing(String)}) выполняется в браузере, поэтому поиск среди
+ * сотен элементов не передаёт их все в тест.
+ * <pre>{@code
+ * ElementList<Link> titles = ElementList.byXPath("//a[@data-qa='serp-item__title']", Link::byXPath);
+ * List<String> first = titles.stream().limit(20).map(ElementList.Item::text).collect(Collectors.toList());
+ * titles.containing("Java").first().ifPresent(item -> item.component().click());
+ * }</pre>
+ * Для списков, которые дописывают элементы в конец при прокрутке (бесконечная лента), включите
+ * {@link #loadingOnScroll(WaitProfile)}: дойдя до последнего элемента, поток прокручивает к нему страницу
+ * и ждёт, пока элементов станет больше. Виртуализированные списки, которые переиспользуют узлы
+ * (заменяют содержимое уже отрисованных строк, а не добавляют новые), так не читаются: число узлов
+ * не растёт, и поток заканчивается на первом отрисованном окне. Список неизменяем: методы настройки возвращают новый список.
+ *
+ * @param <T> тип компонента элемента списка.
+ * @author Хабибуллина Алина
+ */
+public final class ElementList<T extends Component> {
+    private static final Logger logger = LoggerFactory.getLogger(ElementList.class);
+
+    private final String xpath;
+    private final Function<String, T> factory;
+    private final String needle;
+    private final List<String> attributes;
+    private final int pageSize;
+    private final WaitProfile scroll;
+    private final Component page;
+
+    private ElementList(String xpath, Function<String, T> factory, String needle, List<String> attributes,
+                        int pageSize, WaitProfile scroll, Component page) {
+        this.xpath = xpath;
+        this.factory = factory;
+        this.needle = needle;
+        this.attributes = attributes;
+        this.pageSize = pageSize;
+        this.scroll = scroll;
+        this.page = page;
+    }
+
+    /**
+     * Создаёт список элементов.
+     *
+     * @param itemXPath XPath, находящий все элементы списка.
+     * @param factory   фабрика компонента по XPath одного элемента, например {@code Link::byXPath}.
+     * @param <T>       тип компонента.
+     * @return список.
+     */
+    public static <T extends Component> ElementList<T> byXPath(String itemXPath, Function<String, T> factory) {
+        return new ElementList<>(itemXPath, factory, null, Collections.emptyList(), PagedQuery.PAGE_SIZE, null,
+                Component.pageInScope());
+    }
+
+    /**
+     * Возвращает список элементов, текст которых содержит строку (без учёта регистра). Отбор выполняется в браузере.
+     *
+     * @param text часть текста.
+     * @return отобранный список.
+     */
+    public ElementList<T> containing(String text) {
+        return new ElementList<>(xpath, factory, text, attributes, pageSize, scroll, page);
+    }
+
+    /**
+     * Возвращает список, который вместе с текстом читает значения атрибутов элементов.
+     *
+     * @param names имена атрибутов.
+     * @return список.
+     */
+    public ElementList<T> withAttributes(String... names) {
+        return new ElementList<>(xpath, factory, needle, Arrays.asList(names), pageSize, scroll, page);
+    }
+
+    /**
+     * Возвращает список с другим размером страницы.
+     *
+     * @param size число элементов, читаемых одним скриптом.
+     * @return список.
+     */
+    public ElementList<T> withPageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Размер страницы должен быть положительным: " + size);
+        }
+        return new ElementList<>(xpath, factory, needle, attributes, size, scroll, page);
+    }
+
+    /**
+     * Возвращает список, который догружает элементы прокруткой страницы. Новыми считаются только узлы,
+     * добавленные к списку; переиспользование отрисованных узлов не распознаётся.
+     *
+     * @param loadWait сколько ждать новых элементов после прокрутки.
+     * @return список.
+     */
+    public ElementList<T> loadingOnScroll(WaitProfile loadWait) {
+        return new ElementList<>(xpath, factory, needle, attributes, pageSize, loadWait, page);
+    }
+
+    /**
+     * Возвращает число элементов (с учётом отбора), которые сейчас есть на странице. Не ждёт их появления
+     * и не прокручивает страницу для догрузки.
+     *
+     * @return число элементов.
+     */
+    public int size() {
+        return query().fetch(0, 0).matched;
+    }
+
+    /**
+     * Возвращает ленивый поток элементов в порядке документа.
+     *
+     * @return поток элементов.
+     */
+    public Stream<Item<T>> stream() {
+        return query().stream(pageSize, scroll).map(this::item);
+    }
+
+    /**
+     * Возвращает тексты всех элементов.
+     *
+     * @return тексты в порядке документа.
+     */
+    public List<String> texts() {
+        return stream().map(Item::text).collect(Collectors.toList());
+    }
+
+    /**
+     * Возвращает первый элемент списка за один скрипт.
+     *
+     * @return первый элемент или пустое значение, если список пуст.
+     */
+    public Optional<Item<T>> first() {
+        return withPageSize(1).stream().findFirst();
+    }
+
+    /**
+     * Возвращает первый элемент, текст которого содержит строку. Поиск выполняется в браузере.
+     *
+     * @param text часть текста.
+     * @return найденный элемент или пустое значение.
+     */
+    public Optional<Item<T>> find(String text) {
+        Optional<Item<T>> found = containing(text).first();
+        logger.debug("Searched {} for '{}': {}", xpath, text, found.isPresent() ? "found" : "not found");
+        return found;
+    }
+
+    /**
+     * Возвращает компонент элемента по номеру в документе без обращения к браузеру.
+     *
+     * @param index номер элемента среди всех элементов списка (с нуля, без учёта отбора).
+     * @return компонент.
+     */
+    public T get(int index) {
+        T component = factory.apply("(" + xpath + ")[" + (index + 1) + "]");
+        if (page != null) {
+            component.bindTo(page);
+        }
+        return component;
+    }
+
+    private PagedQuery query() {
+        return new PagedQuery(xpath, needle, -1, null, attributes, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Item<T> item(Map<String, Object> data) {
+        return new Item<>(this, ((Number) data.get("index")).intValue(), (String) data.get("text"),
+                (Map<String, String>) data.get("attributes"));
+    }
+
+    /**
+     * Данные одного элемента списка, прочитанные вместе со страницей.
+     *
+     * @param <T> тип компонента.
+     */
+    public static final class Item<T extends Component> {
+        private final ElementList<T> list;
+        private final int index;
+        private final String text;
+        private final Map<String, String> attributes;
+
+        private Item(ElementList<T> list, int index, String text, Map<String, String> attributes) {
+            this.list = list;
+            this.index = index;
+            this.text = text;
+            this.attributes = attributes;
+        }
+
+        /**
+         * @return номер элемента среди всех элементов списка (с нуля).
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * @return видимый текст элемента на момент чтения страницы.
+         */
+        public String text() {
+            return text;
+        }
+
+        /**
+         * Возвращает значение атрибута, запрошенного через {@link ElementList#withAttributes(String...)}.
+         *
+         * @param name имя атрибута.
+         * @return значение или {@code null}, если атрибута нет у элемента или он не запрашивался.
+         */
+        public String attribute(String name) {
+            return attributes == null ? null : attributes.get(name);
+        }
+
+        /**
+         * Возвращает компонент элемента для действий и проверок с ожиданием.
+         *
+         * @return компонент, найденный по номеру элемента.
+         */
+        public T component() {
+            return list.get(index);
+        }
+
+        @Override
+        public String toString() {
+            return "Item[" + index + ": " + text + "]";
+        }
+    }
+}
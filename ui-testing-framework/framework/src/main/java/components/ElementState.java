@@ -0,0 +1,94 @@
+package components;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Класс {@code ElementState} — неизменяемый снимок состояния одного элемента страницы,
+ * прочитанный методом {@link ElementStates#read(java.util.Collection, String...)}.
+ * <p>
+ * Если элемент не найден на странице, {@link #exists()} возвращает {@code false},
+ * а остальные свойства имеют значения по умолчанию.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class ElementState {
+    static final ElementState MISSING = new ElementState(false, false, false, null, null, false, Collections.emptyMap());
+
+    private final boolean exists;
+    private final boolean visible;
+    private final boolean enabled;
+    private final String value;
+    private final String text;
+    private final boolean checked;
+    private final Map<String, String> attributes;
+
+    ElementState(boolean exists, boolean visible, boolean enabled, String value, String text,
+                 boolean checked, Map<String, String> attributes) {
+        this.exists = exists;
+        this.visible = visible;
+        this.enabled = enabled;
+        this.value = value;
+        this.text = text;
+        this.checked = checked;
+        this.attributes = Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * @return {@code true}, если элемент найден на странице.
+     */
+    public boolean exists() {
+        return exists;
+    }
+
+    /**
+     * @return {@code true}, если элемент отображается.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return {@code true}, если элемент доступен для взаимодействия.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return значение свойства {@code value} или {@code null}, если у элемента его нет.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * @return видимый текст элемента.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return {@code true}, если чекбокс или радиокнопка выбраны.
+     */
+    public boolean isChecked() {
+        return checked;
+    }
+
+    /**
+     * Возвращает значение атрибута, запрошенного при чтении состояния.
+     *
+     * @param name имя атрибута.
+     * @return значение атрибута или {@code null}.
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return "ElementState{exists=" + exists + ", visible=" + visible + ", enabled=" + enabled
+                + ", value=" + value + ", text=" + text + ", checked=" + checked + ", attributes=" + attributes + '}';
+    }
+}
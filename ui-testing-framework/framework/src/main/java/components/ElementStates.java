@@ -0,0 +1,167 @@
+package components;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.ex.ElementNotFound;
+import metrics.StepMetrics;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс {@code ElementStates} читает состояние нескольких компонентов за один вызов JavaScript.
+ * <p>
+ * Вместо отдельного HTTP-запроса к WebDriver на каждую проверку ({@code isEnabled}, {@code getValue},
+ * {@code getText}, {@code isChecked}, {@code getAttribute}) все свойства всех компонентов
+ * собираются одним {@code executeScript}:
+ * <pre>{@code
+ * ElementStates.Snapshot state = ElementStates.read(Arrays.asList(username, password, remember), "name");
+ * assertTrue(state.of(remember).isChecked());
+ * }</pre>
+ * Компоненты с известным XPath ищутся прямо в браузере. Для остальных передаётся {@code WebElement}, найденный
+ * ранее на этой странице ({@link ElementCache}), поэтому отдельного поиска не требуется; если элемента в кэше нет,
+ * он ищется без ожидания. Отсутствующий на странице компонент получает состояние {@link ElementState#MISSING}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class ElementStates {
+    private static final String READ_SCRIPT =
+            "var targets = arguments[0], attrs = arguments[1], out = [];"
+                    + "for (var i = 0; i < targets.length; i++) {"
+                    + "  var el = targets[i] === null ? null : typeof targets[i] === 'string'"
+                    + "    ? document.evaluate(targets[i], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue"
+                    + "    : targets[i];"
+                    + "  if (!el) { out.push(null); continue; }"
+                    + "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();"
+                    + "  var a = {};"
+                    + "  for (var j = 0; j < attrs.length; j++) {"
+                    + "    var p = el[attrs[j]];"
+                    + "    a[attrs[j]] = (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function')"
+                    + "      ? String(p) : el.getAttribute(attrs[j]);"
+                    + "  }"
+                    + "  out.push({"
+                    + "    visible: style.display !== 'none' && style.visibility !== 'hidden' && (rect.width > 0 || rect.height > 0),"
+                    + "    enabled: !el.disabled,"
+                    + "    value: 'value' in el ? String(el.value) : null,"
+                    + "    text: el.innerText === undefined ? el.textContent : el.innerText,"
+                    + "    checked: !!el.checked,"
+                    + "    attributes: a"
+                    + "  });"
+                    + "}"
+                    + "return out;";
+
+    private ElementStates() {
+    }
+
+    /**
+     * Читает состояние компонентов за один вызов JavaScript.
+     *
+     * @param components компоненты, состояние которых нужно прочитать.
+     * @param attributes имена дополнительных атрибутов (например, {@code "href"}).
+     * @return снимок состояния компонентов.
+     */
+    public static Snapshot read(Collection<? extends Component> components, String... attributes) {
+        List<?> result;
+        try {
+            result = execute(components, attributes);
+        } catch (WebDriverException e) {
+            if (!ElementCache.isStale(e)) {
+                throw e;
+            }
+            // элемент из кэша отсоединён от документа: ищем компоненты заново
+            ElementCache.invalidate();
+            result = execute(components, attributes);
+        }
+
+        Map<Component, ElementState> states = new IdentityHashMap<>();
+        int index = 0;
+        for (Component component : components) {
+            states.put(component, toState(result.get(index++)));
+        }
+        return new Snapshot(states);
+    }
+
+    /**
+     * Читает состояние компонентов за один вызов JavaScript.
+     *
+     * @param components компоненты, состояние которых нужно прочитать.
+     * @return снимок состояния компонентов.
+     */
+    public static Snapshot read(Component... components) {
+        return read(Arrays.asList(components));
+    }
+
+    private static List<?> execute(Collection<? extends Component> components, String... attributes) {
+        List<Object> targets = new ArrayList<>(components.size());
+        for (Component component : components) {
+            targets.add(component.getXPath() != null ? component.getXPath() : resolve(component));
+        }
+        return StepMetrics.time("readStates", null,
+                () -> Selenide.<List<?>>executeJavaScript(READ_SCRIPT, targets, Arrays.asList(attributes)));
+    }
+
+    /**
+     * Находит элемент компонента без XPath: берёт его из кэша страницы или ищет без ожидания.
+     *
+     * @return элемент или {@code null}, если его нет на странице.
+     */
+    private static Object resolve(Component component) {
+        SelenideElement cached = ElementCache.lookup(component);
+        try {
+            return (cached != null ? cached : component.getElement()).toWebElement();
+        } catch (NoSuchElementException | ElementNotFound e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ElementState toState(Object raw) {
+        if (raw == null) {
+            return ElementState.MISSING;
+        }
+        Map<String, Object> map = (Map<String, Object>) raw;
+        Map<String, String> attributes = new LinkedHashMap<>();
+        ((Map<String, Object>) map.get("attributes")).forEach((name, value) ->
+                attributes.put(name, value == null ? null : String.valueOf(value)));
+        return new ElementState(true,
+                Boolean.TRUE.equals(map.get("visible")),
+                Boolean.TRUE.equals(map.get("enabled")),
+                (String) map.get("value"),
+                (String) map.get("text"),
+                Boolean.TRUE.equals(map.get("checked")),
+                attributes);
+    }
+
+    /**
+     * Снимок состояния набора компонентов, прочитанный за один вызов JavaScript.
+     */
+    public static final class Snapshot {
+        private final Map<Component, ElementState> states;
+
+        private Snapshot(Map<Component, ElementState> states) {
+            this.states = states;
+        }
+
+        /**
+         * Возвращает состояние компонента.
+         *
+         * @param component компонент, переданный в {@link ElementStates#read(Collection, String...)}.
+         * @return состояние компонента.
+         * @throws IllegalArgumentException если состояние компонента не читалось.
+         */
+        public ElementState of(Component component) {
+            ElementState state = states.get(component);
+            if (state == null) {
+                throw new IllegalArgumentException("Состояние компонента не читалось: " + component);
+            }
+            return state;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package components;
+
+import java.util.function.Supplier;
+
+/**
+ * Класс {@code Lazy} — ленивое поле объекта страницы.
+ * <p>
+ * Элемент создаётся (строится локатор, создаётся обёртка) только при первом обращении через {@link #get()}
+ * и затем переиспользуется, пока браузер не перейдёт на другую страницу ({@link Navigation}).
+ * Поэтому создание объекта страницы почти ничего не стоит, а неиспользуемые в тесте элементы
+ * не создаются вовсе:
+ * <pre>{@code
+ * private final Lazy<Button> loginButton = Lazy.of(() -> Button.byContainsClass("btn-primary"));
+ *
+ * public void clickLoginButton() {
+ *     loginButton.get().click();
+ * }
+ * }</pre>
+ * Элемент принадлежит странице, в конструкторе которой создано поле ({@link Component#waitProfile()}).
+ * Как и объекты страниц, экземпляры {@code Lazy} не предназначены для использования из нескольких потоков.
+ *
+ * @param <T> тип элемента.
+ * @author Хабибуллина Алина
+ */
+public final class Lazy<T> implements Supplier<T> {
+    private final Supplier<? extends T> factory;
+    private final Component page;
+    private T value;
+    private long epoch;
+
+    private Lazy(Supplier<? extends T> factory) {
+        this.factory = factory;
+        this.page = Component.pageInScope();
+    }
+
+    /**
+     * Создаёт ленивое поле.
+     *
+     * @param factory фабрика элемента, например {@code () -> Button.byId("submit")}.
+     * @param <T>     тип элемента.
+     * @return ленивое поле.
+     */
+    public static <T> Lazy<T> of(Supplier<? extends T> factory) {
+        return new Lazy<>(factory);
+    }
+
+    /**
+     * Возвращает элемент, создавая его при первом обращении или после перехода на другую страницу.
+     *
+     * @return элемент.
+     */
+    @Override
+    public T get() {
+        long current = Navigation.epoch();
+        if (value == null || epoch != current) {
+            value = factory.get();
+            epoch = current;
+            if (page != null && value instanceof Component) {
+                ((Component) value).bindTo(page);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return {@code true}, если элемент уже создан для текущей страницы.
+     */
+    public boolean isResolved() {
+        return value != null && epoch == Navigation.epoch();
+    }
+
+    /**
+     * Сбрасывает созданный элемент; следующий вызов {@link #get()} создаст его заново.
+     */
+    public void reset() {
+        value = null;
+    }
+}
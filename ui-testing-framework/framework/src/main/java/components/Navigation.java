@@ -0,0 +1,57 @@
+package components;
+
+/**
+ * Класс {@code Navigation} ведёт счётчик переходов браузера текущего потока («эпоху навигации»).
+ * <p>
+ * Счётчик увеличивается при открытии и обновлении страницы ({@code BasePage}) и после каждого теста.
+ * Всё, что привязано к содержимому текущей страницы ({@link Lazy}-поля, кэши найденных элементов),
+ * сравнивает сохранённую эпоху с {@link #epoch()} и при расхождении считает себя устаревшим.
+ * <p>
+ * Кроме того, хранит адрес, заранее открытый в браузере потока до начала теста ({@link #preloaded(String)}),
+ * чтобы {@code BasePage.openPage()} не открывал его повторно.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Navigation {
+    private static final ThreadLocal<long[]> EPOCH = ThreadLocal.withInitial(() -> new long[1]);
+    private static final ThreadLocal<String> PRELOADED = new ThreadLocal<>();
+
+    private Navigation() {
+    }
+
+    /**
+     * @return текущая эпоха навигации потока.
+     */
+    public static long epoch() {
+        return EPOCH.get()[0];
+    }
+
+    /**
+     * Отмечает, что браузер текущего потока перешёл на другую страницу или перезагрузил текущую.
+     */
+    public static void navigated() {
+        EPOCH.get()[0]++;
+        PRELOADED.remove();
+    }
+
+    /**
+     * Отмечает, что браузер текущего потока уже открыл адрес и с тех пор никуда не переходил.
+     *
+     * @param url открытый адрес.
+     */
+    public static void preloaded(String url) {
+        PRELOADED.set(url);
+    }
+
+    /**
+     * Проверяет, открыт ли адрес заранее, и сбрасывает отметку: заранее открытая страница используется один раз.
+     *
+     * @param url адрес, который нужно открыть.
+     * @return {@code true}, если адрес уже открыт и переход не нужен.
+     */
+    public static boolean consumePreloaded(String url) {
+        String preloaded = PRELOADED.get();
+        PRELOADED.remove();
+        return url.equals(preloaded);
+    }
+}
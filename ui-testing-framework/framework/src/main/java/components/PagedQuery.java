@@ -0,0 +1,191 @@
+package components;
+
+import com.codeborne.selenide.Selenide;
+import config.FrameworkConfig;
+import metrics.StepMetrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Класс {@code PagedQuery} читает данные узлов, найденных по XPath, страницами по одному скрипту на страницу.
+ * <p>
+ * Скрипт находит узлы, отбирает их по условиям прямо в браузере и возвращает текст, запрошенные атрибуты
+ * и (для строк таблицы) текст ячеек только для узлов запрошенной страницы. Общий для {@link ElementList}
+ * и {@link Table}.
+ *
+ * @author Хабибуллина Алина
+ */
+final class PagedQuery {
+    /**
+     * Размер страницы по умолчанию ({@code framework.elements.pageSize}).
+     */
+    static final int PAGE_SIZE = FrameworkConfig.get().getInt("framework.elements.pageSize", 50);
+
+    private static final String PAGE_SCRIPT =
+            "var xp = arguments[0], offset = arguments[1], limit = arguments[2], needle = arguments[3],"
+            + "    cell = arguments[4], cellValue = arguments[5], attrs = arguments[6], cells = arguments[7];"
+            + "var snap = document.evaluate(xp, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "var text = function (el) { return (el.innerText || el.textContent || '').trim(); };"
+            + "var cellsOf = function (el) {"
+            + "  var result = [];"
+            + "  for (var c = 0; c < el.children.length; c++) {"
+            + "    var tag = el.children[c].tagName;"
+            + "    if (tag === 'TD' || tag === 'TH') { result.push(text(el.children[c])); }"
+            + "  }"
+            + "  return result;"
+            + "};"
+            + "if (needle) { needle = needle.toLowerCase(); }"
+            + "var items = [], matched = 0;"
+            + "for (var i = 0; i < snap.snapshotLength; i++) {"
+            + "  var el = snap.snapshotItem(i), t = text(el), row = null;"
+            + "  if (needle && t.toLowerCase().indexOf(needle) < 0) { continue; }"
+            + "  if (cell >= 0) { row = cellsOf(el); if (row[cell] !== cellValue) { continue; } }"
+            + "  if (matched++ < offset || items.length >= limit) { continue; }"
+            + "  var item = {index: i, text: t, attributes: {}};"
+            + "  for (var a = 0; a < attrs.length; a++) { item.attributes[attrs[a]] = el.getAttribute(attrs[a]); }"
+            + "  if (cells) { item.cells = row || cellsOf(el); }"
+            + "  items.push(item);"
+            + "}"
+            + "return {total: snap.snapshotLength, matched: matched, items: items};";
+
+    private static final String SCROLL_SCRIPT =
+            "var snap = document.evaluate(arguments[0], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + "if (snap.snapshotLength > 0) { snap.snapshotItem(snap.snapshotLength - 1).scrollIntoView({block: 'end'}); }"
+            + "return snap.snapshotLength;";
+
+    private final String xpath;
+    private final String needle;
+    private final int cell;
+    private final String cellValue;
+    private final List<String> attributes;
+    private final boolean cells;
+
+    PagedQuery(String xpath, String needle, int cell, String cellValue, List<String> attributes, boolean cells) {
+        this.xpath = xpath;
+        this.needle = needle;
+        this.cell = cell;
+        this.cellValue = cellValue;
+        this.attributes = attributes;
+        this.cells = cells;
+    }
+
+    /**
+     * Результат одного скрипта: узлы страницы и число узлов до и после отбора.
+     */
+    static final class Page {
+        final int total;
+        final int matched;
+        final List<Map<String, Object>> items;
+
+        private Page(int total, int matched, List<Map<String, Object>> items) {
+            this.total = total;
+            this.matched = matched;
+            this.items = items;
+        }
+    }
+
+    /**
+     * Читает одну страницу.
+     *
+     * @param offset сколько отобранных узлов пропустить.
+     * @param limit  максимальное число узлов страницы.
+     * @return страница.
+     */
+    @SuppressWarnings("unchecked")
+    Page fetch(int offset, int limit) {
+        Map<String, Object> result = StepMetrics.time("page", xpath, () -> Selenide.executeJavaScript(PAGE_SCRIPT,
+                xpath, offset, limit, needle, cell, cellValue, attributes, cells));
+        if (result == null) {
+            return new Page(0, 0, Collections.emptyList());
+        }
+        return new Page(((Number) result.get("total")).intValue(), ((Number) result.get("matched")).intValue(),
+                (List<Map<String, Object>>) result.get("items"));
+    }
+
+    /**
+     * Прокручивает страницу к последнему узлу, чтобы список догрузил следующие, и ждёт, пока узлов
+     * станет больше {@code known}. Замечает только добавленные узлы: если список переиспользует
+     * отрисованные узлы, их число не меняется и догрузка считается законченной.
+     *
+     * @param known   число узлов до прокрутки.
+     * @param profile профиль ожидания догрузки.
+     * @return {@code true}, если появились новые узлы.
+     */
+    boolean loadMore(int known, WaitProfile profile) {
+        long deadline = System.nanoTime() + profile.timeout().toNanos();
+        for (int attempt = 0; ; attempt++) {
+            Number count = StepMetrics.time("scroll", xpath, () -> Selenide.executeJavaScript(SCROLL_SCRIPT, xpath));
+            if (count != null && count.intValue() > known) {
+                return true;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(Math.min(profile.pollInterval(attempt).toMillis(), remaining / 1_000_000 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ожидание догрузки списка прервано", e);
+            }
+        }
+    }
+
+    /**
+     * Возвращает ленивый поток отобранных узлов: следующая страница читается, когда поток дошёл до конца предыдущей.
+     * <p>
+     * Страницы читаются по смещению в живом DOM: каждый скрипт заново находит узлы и пропускает столько
+     * отобранных, сколько уже прочитано. Если между страницами узлы добавились или удалились раньше
+     * прочитанной позиции, поток пропустит или повторит элементы; снимка списка на момент первой страницы нет.
+     *
+     * @param pageSize размер страницы.
+     * @param scroll   профиль ожидания догрузки при прокрутке или {@code null}, если список не догружается.
+     * @return поток данных узлов.
+     */
+    Stream<Map<String, Object>> stream(int pageSize, WaitProfile scroll) {
+        Iterator<Map<String, Object>> iterator = new Iterator<Map<String, Object>>() {
+            private List<Map<String, Object>> page = new ArrayList<>();
+            private int position;
+            private int offset;
+            private int total;
+            private boolean atEnd;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                while (position == page.size() && !exhausted) {
+                    if (atEnd && (scroll == null || !loadMore(total, scroll))) {
+                        exhausted = true;
+                        break;
+                    }
+                    Page next = fetch(offset, pageSize);
+                    page = next.items;
+                    position = 0;
+                    offset += page.size();
+                    total = next.total;
+                    atEnd = offset >= next.matched || page.isEmpty();
+                }
+                return position < page.size();
+            }
+
+            @Override
+            public Map<String, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(position++);
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+}
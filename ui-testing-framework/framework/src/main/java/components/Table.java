@@ -0,0 +1,146 @@
+package components;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.codeborne.selenide.Selenide.$x;
+
+/**
+ * Класс {@code Table} — HTML-таблица ({@code <table>}), строки которой читаются страницами.
+ * <p>
+ * Как и {@link ElementList}, таблица читает текст ячеек страницами по {@code framework.elements.pageSize}
+ * строк одним скриптом и отдаёт их ленивым {@link Stream}; поиск строки по значению столбца
+ * ({@link #findRow(String, String)}) выполняется в браузере.
+ * <pre>{@code
+ * Table prices = Table.byXPath("//table[@id='prices']");
+ * Optional<Map<String, String>> row = prices.findRow("Тариф", "Базовый");
+ * long expensive = prices.rowMaps().filter(r -> r.get("Цена").length() > 5).count();
+ * }</pre>
+ * Строками данных считаются строки {@code tr} с ячейками {@code td}, заголовками — ячейки первой строки
+ * с {@code th}. XPath таблицы не должен быть объединением ({@code |}).
+ *
+ * @author Хабибуллина Алина
+ */
+public class Table extends Component {
+    private static final Logger logger = LoggerFactory.getLogger(Table.class);
+
+    private final int pageSize;
+    private List<String> headers;
+
+    /**
+     * Конструктор таблицы по XPath.
+     *
+     * @param xpath    XPath-выражение, указывающее на элемент {@code table}.
+     * @param pageSize число строк, читаемых одним скриптом.
+     */
+    protected Table(String xpath, int pageSize) {
+        super($x(xpath), xpath);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Создаёт таблицу по XPath.
+     *
+     * @param rawXPath XPath-выражение, указывающее на элемент {@code table}.
+     * @return экземпляр {@code Table}.
+     */
+    public static Table byXPath(String rawXPath) {
+        return new Table(rawXPath, PagedQuery.PAGE_SIZE);
+    }
+
+    /**
+     * Возвращает заголовки столбцов. Читаются один раз и запоминаются.
+     *
+     * @return заголовки или пустой список, если в таблице нет строки с {@code th}.
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> headers() {
+        if (headers == null) {
+            String headerRow = "(" + xpath + "/*/tr[th] | " + xpath + "/tr[th])[1]";
+            List<Map<String, Object>> rows = new PagedQuery(headerRow, null, -1, null, Collections.emptyList(), true)
+                    .fetch(0, 1).items;
+            headers = rows.isEmpty() ? Collections.emptyList() : (List<String>) rows.get(0).get("cells");
+            logger.debug("Table {} headers: {}", xpath, headers);
+        }
+        return headers;
+    }
+
+    /**
+     * Возвращает число строк данных, которые сейчас есть в таблице.
+     *
+     * @return число строк.
+     */
+    public int rowCount() {
+        return rows(null, -1, null).fetch(0, 0).matched;
+    }
+
+    /**
+     * Возвращает ленивый поток строк: текст ячеек каждой строки по порядку столбцов.
+     *
+     * @return поток строк.
+     */
+    public Stream<List<String>> rows() {
+        return cells(rows(null, -1, null), pageSize);
+    }
+
+    /**
+     * Возвращает ленивый поток строк, текст которых содержит строку (без учёта регистра). Отбор выполняется в браузере.
+     *
+     * @param text часть текста строки.
+     * @return поток отобранных строк.
+     */
+    public Stream<List<String>> rowsContaining(String text) {
+        return cells(rows(text, -1, null), pageSize);
+    }
+
+    /**
+     * Возвращает ленивый поток строк в виде «заголовок столбца — текст ячейки».
+     *
+     * @return поток строк.
+     */
+    public Stream<Map<String, String>> rowMaps() {
+        return rows().map(this::toMap);
+    }
+
+    /**
+     * Находит первую строку, в которой ячейка столбца точно совпадает со значением. Поиск выполняется в браузере.
+     *
+     * @param column заголовок столбца.
+     * @param value  текст ячейки.
+     * @return строка в виде «заголовок — текст ячейки» или пустое значение.
+     * @throws IllegalArgumentException если в таблице нет такого столбца.
+     */
+    public Optional<Map<String, String>> findRow(String column, String value) {
+        int index = headers().indexOf(column);
+        if (index < 0) {
+            throw new IllegalArgumentException("В таблице " + xpath + " нет столбца '" + column + "': " + headers());
+        }
+        return cells(rows(null, index, value), 1).findFirst().map(this::toMap);
+    }
+
+    private PagedQuery rows(String needle, int cell, String cellValue) {
+        return new PagedQuery(xpath + "/*/tr[td] | " + xpath + "/tr[td]", needle, cell, cellValue,
+                Collections.emptyList(), true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Stream<List<String>> cells(PagedQuery rows, int pageSize) {
+        return rows.stream(pageSize, null).map(row -> (List<String>) row.get("cells"));
+    }
+
+    private Map<String, String> toMap(List<String> cells) {
+        List<String> names = headers();
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int i = 0; i < cells.size(); i++) {
+            row.put(i < names.size() ? names.get(i) : String.valueOf(i), cells.get(i));
+        }
+        return row;
+    }
+}
@@ -0,0 +1,197 @@
+package components;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.SelenideElement;
+import com.codeborne.selenide.WebElementCondition;
+
+import java.time.Duration;
+
+/**
+ * Класс {@code WaitProfile} — время ожидания и расписание опроса для условий элементов.
+ * <p>
+ * Selenide ждёт любое условие {@code Configuration.timeout} (по умолчанию 10 секунд) с постоянным интервалом
+ * опроса. Профиль позволяет задать своё время ожидания элементу ({@link Component#withWait(WaitProfile)})
+ * или странице ({@code BasePage.pageWaitProfile()}) и опрашивать с растущим интервалом: частые первые проверки
+ * замечают быстро появляющиеся элементы, редкие последующие не нагружают браузер.
+ * <pre>{@code
+ * private final Button submit = Button.byId("submit").withWait(WaitProfile.failFast());
+ * }</pre>
+ * Промежуточные проверки выполняются без исключений и скриншотов ({@code SelenideElement.is}); ошибка
+ * со скриншотом формируется только по истечении времени ожидания.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class WaitProfile {
+    private static final WaitProfile DEFAULTS = new WaitProfile(null, null, null, 1.0);
+    private static final ThreadLocal<WaitProfile> PAGE = new ThreadLocal<>();
+
+    private final Duration timeout;
+    private final Duration initialPoll;
+    private final Duration maxPoll;
+    private final double factor;
+
+    private WaitProfile(Duration timeout, Duration initialPoll, Duration maxPoll, double factor) {
+        this.timeout = timeout;
+        this.initialPoll = initialPoll;
+        this.maxPoll = maxPoll;
+        this.factor = factor;
+    }
+
+    /**
+     * Возвращает профиль Selenide: {@code Configuration.timeout} и {@code Configuration.pollingInterval}.
+     *
+     * @return профиль по умолчанию.
+     */
+    public static WaitProfile defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Возвращает профиль для элементов, которые должны быть на странице сразу после её загрузки:
+     * 2 секунды, опрос с 50 мс с удвоением до 500 мс.
+     *
+     * @return профиль быстрого отказа.
+     */
+    public static WaitProfile failFast() {
+        return of(Duration.ofSeconds(2));
+    }
+
+    /**
+     * Возвращает профиль для медленных операций (поиск, загрузка отчётов): 30 секунд,
+     * опрос с 250 мс с удвоением до 2 секунд.
+     *
+     * @return профиль долгого ожидания.
+     */
+    public static WaitProfile patient() {
+        return new WaitProfile(Duration.ofSeconds(30), Duration.ofMillis(250), Duration.ofSeconds(2), 2.0);
+    }
+
+    /**
+     * Возвращает профиль с заданным временем ожидания и экспоненциальным опросом с 50 мс до 500 мс.
+     *
+     * @param timeout время ожидания.
+     * @return профиль.
+     */
+    public static WaitProfile of(Duration timeout) {
+        return new WaitProfile(timeout, Duration.ofMillis(50), Duration.ofMillis(500), 2.0);
+    }
+
+    /**
+     * Возвращает профиль с другим расписанием опроса.
+     *
+     * @param initial первый интервал опроса.
+     * @param max     максимальный интервал опроса.
+     * @param factor  множитель интервала после каждой неудачной проверки (1 — постоянный интервал).
+     * @return новый профиль.
+     */
+    public WaitProfile withPolling(Duration initial, Duration max, double factor) {
+        if (factor < 1) {
+            throw new IllegalArgumentException("Множитель интервала опроса должен быть не меньше 1: " + factor);
+        }
+        return new WaitProfile(timeout(), initial, max, factor);
+    }
+
+    /**
+     * Возвращает профиль с другим временем ожидания и тем же расписанием опроса.
+     *
+     * @param timeout время ожидания.
+     * @return новый профиль.
+     */
+    public WaitProfile withTimeout(Duration timeout) {
+        if (this == DEFAULTS) {
+            return of(timeout).withPolling(Duration.ofMillis(Configuration.pollingInterval),
+                    Duration.ofMillis(Configuration.pollingInterval), 1.0);
+        }
+        return new WaitProfile(timeout, initialPoll, maxPoll, factor);
+    }
+
+    /**
+     * @return время ожидания.
+     */
+    public Duration timeout() {
+        return timeout == null ? Duration.ofMillis(Configuration.timeout) : timeout;
+    }
+
+    /**
+     * @return {@code true}, если профиль повторяет поведение Selenide по умолчанию.
+     */
+    public boolean isDefault() {
+        return this == DEFAULTS;
+    }
+
+    /**
+     * Возвращает интервал опроса после заданного числа неудачных проверок.
+     *
+     * @param attempt номер неудачной проверки (с нуля).
+     * @return интервал до следующей проверки.
+     */
+    public Duration pollInterval(int attempt) {
+        if (initialPoll == null) {
+            return Duration.ofMillis(Configuration.pollingInterval);
+        }
+        double millis = initialPoll.toMillis() * Math.pow(factor, attempt);
+        return Duration.ofMillis((long) Math.min(millis, maxPoll.toMillis()));
+    }
+
+    /**
+     * Ждёт, пока элемент будет (или перестанет быть) в заданном состоянии.
+     *
+     * @param element   элемент.
+     * @param condition условие.
+     * @param expected  {@code true} — ждать выполнения условия, {@code false} — ждать его нарушения.
+     * @throws com.codeborne.selenide.ex.UIAssertionError если условие не выполнено за время ожидания.
+     */
+    public void await(SelenideElement element, WebElementCondition condition, boolean expected) {
+        if (isDefault()) {
+            if (expected) {
+                element.shouldBe(condition);
+            } else {
+                element.shouldNotBe(condition);
+            }
+            return;
+        }
+        long deadline = System.nanoTime() + timeout().toNanos();
+        for (int attempt = 0; element.is(condition) != expected; attempt++) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                if (expected) {
+                    element.shouldBe(condition, Duration.ZERO);
+                } else {
+                    element.shouldNotBe(condition, Duration.ZERO);
+                }
+                return;
+            }
+            try {
+                Thread.sleep(Math.min(pollInterval(attempt).toMillis(), remaining / 1_000_000 + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Ожидание элемента прервано", e);
+            }
+        }
+    }
+
+    /**
+     * Запоминает профиль страницы, открытой в текущем потоке последней; он применяется к элементам
+     * без собственного профиля, не принадлежащим ни одной странице ({@link Component#waitProfile()}).
+     *
+     * @param profile профиль страницы.
+     */
+    public static void enterPage(WaitProfile profile) {
+        PAGE.set(profile);
+    }
+
+    /**
+     * @return профиль страницы текущего потока или {@link #defaults()}.
+     */
+    static WaitProfile ofCurrentPage() {
+        WaitProfile profile = PAGE.get();
+        return profile == null ? DEFAULTS : profile;
+    }
+
+    @Override
+    public String toString() {
+        return isDefault() ? "WaitProfile[selenide]"
+                : "WaitProfile[" + timeout.toMillis() + " ms, poll " + initialPoll.toMillis() + ".." + maxPoll.toMillis()
+                + " ms x" + factor + "]";
+    }
+}
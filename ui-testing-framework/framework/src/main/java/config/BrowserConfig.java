@@ -0,0 +1,35 @@
+package config;
+
+import com.codeborne.selenide.Configuration;
+import fixtures.FixtureMode;
+import fixtures.Fixtures;
+
+/**
+ * Класс {@code BrowserConfig} переносит настройки браузера из {@link FrameworkConfig} в конфигурацию Selenide.
+ * <p>
+ * Используются ключи {@code selenide.browser} (по умолчанию {@code edge}), {@code selenide.browserSize}
+ * ({@code 1920x1080}) и {@code selenide.timeout} (10000 мс). В режиме воспроизведения fixtures
+ * ({@code -Dframework.fixtures.mode=replay}) браузер запускается в headless-режиме. Значения разбираются
+ * один раз и берутся из кэша снимка, поэтому вызов перед каждым тестом ничего не стоит. Вызывается
+ * {@code driver.DriverPoolExtension} до выбора сессии, чтобы заранее запущенные браузеры получили те же настройки.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class BrowserConfig {
+
+    private BrowserConfig() {
+    }
+
+    /**
+     * Применяет настройки браузера из текущего снимка {@link FrameworkConfig}.
+     */
+    public static void apply() {
+        FrameworkConfig config = FrameworkConfig.get();
+        Configuration.browser = config.getString("selenide.browser", "edge");
+        Configuration.browserSize = config.getString("selenide.browserSize", "1920x1080");
+        Configuration.timeout = config.getLong("selenide.timeout", 10000);
+        if (Fixtures.mode() == FixtureMode.REPLAY) {
+            Configuration.headless = true;
+        }
+    }
+}
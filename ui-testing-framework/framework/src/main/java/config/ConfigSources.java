@@ -0,0 +1,93 @@
+package config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+/**
+ * Загружает источники настроек для {@link FrameworkConfig}.
+ * Все источники копируются в момент загрузки, поэтому снимок не зависит от последующих изменений
+ * системных свойств.
+ *
+ * @author Хабибуллина Алина
+ */
+final class ConfigSources {
+    /**
+     * Ключ, задающий профиль: при {@code framework.profile=stage} загружается {@code config-stage.properties}.
+     */
+    static final String PROFILE = "framework.profile";
+
+    private ConfigSources() {
+    }
+
+    static FrameworkConfig load() {
+        Map<String, String> system = copy(System.getProperties());
+        Map<String, String> env = new HashMap<>(System.getenv());
+        Function<String, String> systemLayer = system::get;
+        Function<String, String> envLayer = key -> env.get(envName(key));
+
+        String profile = system.containsKey(PROFILE) ? system.get(PROFILE) : env.get(envName(PROFILE));
+        Map<String, String> site = resource("config.properties");
+        Map<String, String> defaults = resource("framework.properties");
+        if (profile == null) {
+            profile = site.containsKey(PROFILE) ? site.get(PROFILE) : defaults.get(PROFILE);
+        }
+
+        List<Function<String, String>> layers = new ArrayList<>(5);
+        layers.add(systemLayer);
+        layers.add(envLayer);
+        if (profile != null && !profile.trim().isEmpty()) {
+            layers.add(resource("config-" + profile.trim() + ".properties")::get);
+        }
+        layers.add(site::get);
+        layers.add(defaults::get);
+        return new FrameworkConfig(layers);
+    }
+
+    /**
+     * Возвращает имя переменной окружения для ключа: {@code framework.driver.pool.maxUses} → {@code FRAMEWORK_DRIVER_POOL_MAXUSES}.
+     *
+     * @param key ключ настройки.
+     * @return имя переменной окружения.
+     */
+    static String envName(String key) {
+        return key.toUpperCase(Locale.ROOT).replace('.', '_').replace('-', '_');
+    }
+
+    private static Map<String, String> resource(String name) {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = ConfigSources.class.getClassLoader();
+        }
+        try (InputStream input = loader.getResourceAsStream(name)) {
+            if (input == null) {
+                return new HashMap<>();
+            }
+            Properties properties = new Properties();
+            try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            }
+            return copy(properties);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ошибка загрузки " + name, e);
+        }
+    }
+
+    private static Map<String, String> copy(Properties properties) {
+        Map<String, String> result = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            result.put(name, properties.getProperty(name));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,179 @@
+package config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Класс {@code FrameworkConfig} — неизменяемый снимок настроек фреймворка и тестов.
+ * <p>
+ * Значение ключа ищется в источниках по убыванию приоритета:
+ * <ol>
+ *     <li>системные свойства JVM ({@code -Dkey=value});</li>
+ *     <li>переменные окружения: имя ключа в верхнем регистре с {@code _} вместо точек и дефисов
+ *     ({@code framework.driver.pool.maxUses} → {@code FRAMEWORK_DRIVER_POOL_MAXUSES});</li>
+ *     <li>профиль {@code config-<профиль>.properties} из classpath, если задан ключ {@code framework.profile};</li>
+ *     <li>{@code config.properties} модуля тестов;</li>
+ *     <li>{@code framework.properties} — общие значения по умолчанию.</li>
+ * </ol>
+ * Снимок создаётся один раз и безопасно читается из любого числа потоков; типизированные значения
+ * разбираются при первом обращении и кэшируются. {@link #reload()} атомарно заменяет текущий снимок
+ * новым — это влияет на значения, прочитанные после перезагрузки (классы, читающие настройки при загрузке,
+ * например пул браузеров, их не перечитывают).
+ * <pre>{@code
+ * String email = FrameworkConfig.get().getString("email");
+ * int maxUses = FrameworkConfig.get().getInt("framework.driver.pool.maxUses", 20);
+ * }</pre>
+ *
+ * @author Хабибуллина Алина
+ */
+public final class FrameworkConfig {
+    private static final AtomicReference<FrameworkConfig> CURRENT = new AtomicReference<>();
+
+    private final List<Function<String, String>> layers;
+    private final Map<String, Optional<String>> values = new ConcurrentHashMap<>();
+    private final Map<String, Object> parsed = new ConcurrentHashMap<>();
+
+    /**
+     * Создаёт снимок из источников, перечисленных по убыванию приоритета.
+     *
+     * @param layers источники настроек: функции, возвращающие значение ключа или {@code null}.
+     */
+    FrameworkConfig(List<Function<String, String>> layers) {
+        this.layers = Collections.unmodifiableList(layers);
+    }
+
+    /**
+     * Возвращает текущий снимок настроек, загружая его при первом обращении.
+     *
+     * @return снимок настроек.
+     */
+    public static FrameworkConfig get() {
+        FrameworkConfig config = CURRENT.get();
+        if (config == null) {
+            CURRENT.compareAndSet(null, ConfigSources.load());
+            config = CURRENT.get();
+        }
+        return config;
+    }
+
+    /**
+     * Перечитывает все источники и атомарно заменяет текущий снимок.
+     *
+     * @return новый снимок настроек.
+     */
+    public static FrameworkConfig reload() {
+        FrameworkConfig config = ConfigSources.load();
+        CURRENT.set(config);
+        return config;
+    }
+
+    /**
+     * Возвращает строковое значение ключа.
+     *
+     * @param key ключ.
+     * @return значение, если ключ задан хотя бы в одном источнике.
+     */
+    public Optional<String> find(String key) {
+        return values.computeIfAbsent(key, this::lookup);
+    }
+
+    /**
+     * Возвращает обязательное строковое значение ключа.
+     *
+     * @param key ключ.
+     * @return значение.
+     * @throws IllegalStateException если ключ не задан ни в одном источнике.
+     */
+    public String getString(String key) {
+        return find(key).orElseThrow(() -> new IllegalStateException("Не задан параметр конфигурации " + key));
+    }
+
+    /**
+     * Возвращает строковое значение ключа или значение по умолчанию.
+     *
+     * @param key          ключ.
+     * @param defaultValue значение по умолчанию.
+     * @return значение.
+     */
+    public String getString(String key, String defaultValue) {
+        return find(key).orElse(defaultValue);
+    }
+
+    /**
+     * Возвращает логическое значение ключа ({@code true}/{@code false}).
+     *
+     * @param key          ключ.
+     * @param defaultValue значение по умолчанию.
+     * @return значение.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return typed(key, "boolean", Boolean::parseBoolean, defaultValue);
+    }
+
+    /**
+     * Возвращает целочисленное значение ключа.
+     *
+     * @param key          ключ.
+     * @param defaultValue значение по умолчанию.
+     * @return значение.
+     * @throws IllegalStateException если значение не является числом.
+     */
+    public int getInt(String key, int defaultValue) {
+        return typed(key, "int", Integer::parseInt, defaultValue);
+    }
+
+    /**
+     * Возвращает длинное целочисленное значение ключа.
+     *
+     * @param key          ключ.
+     * @param defaultValue значение по умолчанию.
+     * @return значение.
+     * @throws IllegalStateException если значение не является числом.
+     */
+    public long getLong(String key, long defaultValue) {
+        return typed(key, "long", Long::parseLong, defaultValue);
+    }
+
+    /**
+     * Возвращает длительность, заданную в миллисекундах.
+     *
+     * @param key          ключ.
+     * @param defaultValue значение по умолчанию.
+     * @return значение.
+     * @throws IllegalStateException если значение не является числом.
+     */
+    public Duration getMillis(String key, Duration defaultValue) {
+        return typed(key, "millis", value -> Duration.ofMillis(Long.parseLong(value)), defaultValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T typed(String key, String type, Function<String, T> parser, T defaultValue) {
+        Optional<String> raw = find(key);
+        if (!raw.isPresent()) {
+            return defaultValue;
+        }
+        return (T) parsed.computeIfAbsent(type + ':' + key, k -> {
+            try {
+                return parser.apply(raw.get().trim());
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Некорректное значение параметра " + key + ": " + raw.get(), e);
+            }
+        });
+    }
+
+    private Optional<String> lookup(String key) {
+        for (Function<String, String> layer : layers) {
+            String value = layer.apply(key);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,145 @@
+package driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Класс {@code DevToolsSessions} подключает DevTools драйвера к его текущей вкладке и хранит обработчики,
+ * работающие через это подключение (блокировка запросов, всплывающие элементы, события переходов, изменения DOM).
+ * <p>
+ * Без идентификатора вкладки {@code DevTools.createSessionIfThereIsNotOne()} подключается к первой вкладке
+ * браузера, а в общем браузере ({@link SharedBrowser}) это может быть вкладка другого теста. Поэтому подключение
+ * создаётся для вкладки {@code getWindowHandle()} драйвера, одно на драйвер. Если драйвер перешёл на другую
+ * вкладку (например, сессия общего браузера передана следующему тесту), прежнее подключение закрывается вместе
+ * с подписками на события, а обработчики создаются заново при следующем обращении.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class DevToolsSessions {
+    private static final Logger logger = LoggerFactory.getLogger(DevToolsSessions.class);
+
+    private static final Map<WebDriver, DevToolsSessions> SESSIONS = new WeakHashMap<>();
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private final DevTools devTools;
+    private final String target;
+    private final Map<Class<?>, Object> handlers = new HashMap<>();
+
+    private DevToolsSessions(DevTools devTools, String target) {
+        this.devTools = devTools;
+        this.target = target;
+    }
+
+    /**
+     * Возвращает обработчик заданного типа для текущей вкладки драйвера, создавая его при первом обращении.
+     *
+     * @param driver  драйвер, возможно обёрнутый.
+     * @param type    тип обработчика.
+     * @param factory создаёт обработчик по подключению DevTools.
+     * @param feature что отключается, если DevTools недоступны (для журнала).
+     * @param <T>     тип обработчика.
+     * @return обработчик или {@code null}, если браузер не поддерживает DevTools или подключение не удалось.
+     */
+    public static <T> T handler(WebDriver driver, Class<T> type, Function<DevTools, T> factory, String feature) {
+        WebDriver raw = Drivers.unwrap(driver);
+        if (!(raw instanceof HasDevTools)) {
+            return null;
+        }
+        String target = currentTarget(raw);
+        if (target == null) {
+            return null;
+        }
+        LOCK.lock();
+        try {
+            DevToolsSessions session = SESSIONS.get(raw);
+            if (session == null || !session.target.equals(target)) {
+                if (session != null) {
+                    session.close();
+                }
+                session = open((HasDevTools) raw, target);
+                SESSIONS.put(raw, session);
+            }
+            if (session.handlers.containsKey(type)) {
+                return type.cast(session.handlers.get(type));
+            }
+            T handler = null;
+            if (session.devTools != null) {
+                try {
+                    handler = factory.apply(session.devTools);
+                } catch (WebDriverException e) {
+                    logger.info("DevTools are not available, {} is disabled for this session: {}", feature,
+                            e.getMessage());
+                }
+            }
+            session.handlers.put(type, handler);
+            return handler;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Возвращает уже созданный обработчик текущей вкладки драйвера, не подключаясь к DevTools.
+     *
+     * @param driver драйвер, возможно обёрнутый.
+     * @param type   тип обработчика.
+     * @param <T>    тип обработчика.
+     * @return обработчик или {@code null}, если он не создавался для этой вкладки.
+     */
+    public static <T> T existing(WebDriver driver, Class<T> type) {
+        WebDriver raw = Drivers.unwrap(driver);
+        if (!(raw instanceof HasDevTools)) {
+            return null;
+        }
+        String target = currentTarget(raw);
+        LOCK.lock();
+        try {
+            DevToolsSessions session = SESSIONS.get(raw);
+            return session == null || !session.target.equals(target) ? null : type.cast(session.handlers.get(type));
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    private static DevToolsSessions open(HasDevTools driver, String target) {
+        try {
+            DevTools devTools = driver.getDevTools();
+            devTools.createSessionIfThereIsNotOne(target);
+            return new DevToolsSessions(devTools, target);
+        } catch (WebDriverException e) {
+            logger.info("DevTools are not available for this session: {}", e.getMessage());
+            return new DevToolsSessions(null, target);
+        }
+    }
+
+    private static String currentTarget(WebDriver driver) {
+        try {
+            return driver.getWindowHandle();
+        } catch (WebDriverException e) {
+            logger.debug("Current window is not available: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void close() {
+        if (devTools == null) {
+            return;
+        }
+        try {
+            devTools.clearListeners();
+            devTools.disconnectSession();
+        } catch (WebDriverException e) {
+            logger.debug("Failed to detach DevTools from {}: {}", target, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package driver;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import config.FrameworkConfig;
+import footprint.ResourceTracker;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * Класс {@code DriverPool} хранит «тёплые» браузерные сессии и повторно выдаёт их тестам
+ * вместо того, чтобы закрывать браузер после каждого теста.
+ * <p>
+ * Перед тестом {@link #acquire()} привязывает к текущему потоку свободную сессию из пула. Если свободной нет,
+ * браузер запускается при первом обращении теста к нему, а при возврате попадает в пул, если у него одна
+ * вкладка: тест, которому браузер не понадобился, не запускает его зря. Свойство
+ * {@code -Dframework.driver.pool.eager=true} запускает браузер сразу в {@link #acquire()}.
+ * После теста {@link #release(boolean)} очищает cookies, хранилища и вкладки и возвращает сессию в пул.
+ * Сессия закрывается, если она отработала {@code framework.driver.pool.maxUses} тестов,
+ * перестала отвечать, её браузер превысил ограничение памяти ({@link ResourceTracker}) или пул уже заполнен.
+ * <p>
+ * Пул можно отключить свойством {@code -Dframework.driver.pool.enabled=false} —
+ * тогда браузер закрывается после каждого теста, как раньше. Если включён режим {@link SharedBrowser},
+ * пул передаёт ему выдачу и возврат сессий.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class DriverPool {
+    private static final Logger logger = LoggerFactory.getLogger(DriverPool.class);
+
+    private static final DriverPool SHARED = new DriverPool(
+            FrameworkConfig.get().getBoolean("framework.driver.pool.enabled", true),
+            FrameworkConfig.get().getInt("framework.driver.pool.maxUses", 20),
+            FrameworkConfig.get().getInt("framework.driver.pool.maxIdle", Runtime.getRuntime().availableProcessors()),
+            FrameworkConfig.get().getBoolean("framework.driver.pool.eager", false));
+
+    private final Deque<PooledSession> idle = new ConcurrentLinkedDeque<>();
+    private final ThreadLocal<PooledSession> active = new ThreadLocal<>();
+    private final ThreadLocal<String> deferred = new ThreadLocal<>();
+    private final boolean enabled;
+    private final int maxUses;
+    private final int maxIdle;
+    private final boolean eager;
+
+    /**
+     * Создаёт пул сессий.
+     *
+     * @param enabled признак включения пула.
+     * @param maxUses максимальное количество тестов, выполняемых в одной сессии.
+     * @param maxIdle максимальное количество свободных сессий, хранящихся в пуле.
+     * @param eager   запускать браузер в {@link #acquire()}, если в пуле нет свободной сессии.
+     */
+    DriverPool(boolean enabled, int maxUses, int maxIdle, boolean eager) {
+        this.enabled = enabled;
+        this.maxUses = maxUses;
+        this.maxIdle = maxIdle;
+        this.eager = eager;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Возвращает общий пул сессий.
+     *
+     * @return экземпляр {@code DriverPool}.
+     */
+    public static DriverPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Проверяет, включён ли пул.
+     *
+     * @return {@code true}, если сессии переиспользуются между тестами.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Привязывает к текущему потоку свободную сессию для текущего браузера из пула. Если её нет, новый браузер
+     * запускается сразу только при {@code framework.driver.pool.eager=true}, иначе — при первом обращении теста.
+     * Неработающие сессии, найденные в пуле, закрываются.
+     */
+    public void acquire() {
+        if (SharedBrowser.shared().isEnabled()) {
+            SharedBrowser.shared().acquire();
+            return;
+        }
+        if (!enabled || WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+        String browser = Configuration.browser;
+        Iterator<PooledSession> iterator = idle.iterator();
+        while (iterator.hasNext()) {
+            PooledSession session = iterator.next();
+            if (!session.browser().equals(browser) || !idle.remove(session)) {
+                continue;
+            }
+            if (session.isAlive()) {
+                WebDriverRunner.setWebDriver(session.driver());
+                active.set(session);
+                logger.debug("Reusing pooled {} session (uses: {})", browser, session.uses());
+                return;
+            }
+            logger.info("Discarding dead pooled {} session", browser);
+            session.quit();
+        }
+        if (eager) {
+            active.set(new PooledSession(WebDriverRunner.getAndCheckWebDriver(), browser));
+        } else {
+            deferred.set(browser);
+        }
+    }
+
+    /**
+     * Возвращает сессию текущего потока в пул или закрывает её.
+     *
+     * @param failed {@code true}, если тест завершился ошибкой; в этом случае сессия
+     *               дополнительно проверяется на работоспособность.
+     */
+    public void release(boolean failed) {
+        if (SharedBrowser.shared().release(failed)) {
+            return;
+        }
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            active.remove();
+            deferred.remove();
+            return;
+        }
+        boolean overBudget = ResourceTracker.sample(WebDriverRunner.getWebDriver());
+        if (!enabled) {
+            WebDriverRunner.closeWebDriver();
+            return;
+        }
+
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        PooledSession session = current(driver);
+        active.remove();
+        deferred.remove();
+        WebDriverRunner.webdriverContainer.resetWebDriver();
+        if (session == null || Drivers.unwrap(session.driver()) != Drivers.unwrap(driver)) {
+            // браузер запущен в обход пула, его исходная вкладка неизвестна
+            logger.debug("Closing {} session that was not started by the pool", Configuration.browser);
+            closeQuietly(driver);
+            return;
+        }
+
+        int uses = session.markUsed();
+        if (uses >= maxUses) {
+            logger.info("Recycling {} session after {} uses", session.browser(), uses);
+            session.quit();
+            return;
+        }
+        if (overBudget) {
+            logger.info("Recycling {} session over its memory cap", session.browser());
+            session.quit();
+            return;
+        }
+        if (failed && !session.isAlive()) {
+            logger.info("Recycling crashed {} session", session.browser());
+            session.quit();
+            return;
+        }
+        if (idle.size() >= maxIdle) {
+            session.quit();
+            return;
+        }
+
+        try {
+            session.reset();
+            idle.addFirst(session);
+        } catch (WebDriverException e) {
+            logger.info("Recycling {} session that failed to reset: {}", session.browser(), e.getMessage());
+            session.quit();
+        }
+    }
+
+    /**
+     * Отвязывает сессию от текущего потока, не возвращая её в пул, чтобы передать её другому потоку
+     * ({@link #attach(Detached)}). Счётчик использований сессии сохраняется.
+     *
+     * @return отвязанная сессия или {@code null}, если у потока нет браузера.
+     */
+    public Detached detach() {
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            return null;
+        }
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        Detached detached = new Detached(driver, current(driver));
+        active.remove();
+        deferred.remove();
+        WebDriverRunner.webdriverContainer.resetWebDriver();
+        return detached;
+    }
+
+    /**
+     * Привязывает к текущему потоку сессию, отвязанную {@link #detach()} в другом потоке.
+     *
+     * @param detached отвязанная сессия.
+     */
+    public void attach(Detached detached) {
+        WebDriverRunner.setWebDriver(detached.driver);
+        if (detached.session != null) {
+            active.set(detached.session);
+        }
+    }
+
+    /**
+     * Закрывает все свободные сессии пула.
+     */
+    public void shutdown() {
+        PooledSession session;
+        while ((session = idle.pollFirst()) != null) {
+            session.quit();
+        }
+    }
+
+    /**
+     * Возвращает сессию пула текущего потока. Браузер, запущенный по первому обращению теста, принимается в пул,
+     * если у него одна вкладка: она и считается исходной.
+     */
+    private PooledSession current(WebDriver driver) {
+        PooledSession session = active.get();
+        String browser = deferred.get();
+        if (session != null || browser == null) {
+            return session;
+        }
+        try {
+            return driver.getWindowHandles().size() == 1 ? new PooledSession(driver, browser) : null;
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    private static void closeQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // сессия уже недоступна
+        }
+    }
+
+    /**
+     * Браузерная сессия, отвязанная от потока для передачи другому потоку.
+     */
+    public static final class Detached {
+        private final WebDriver driver;
+        private final PooledSession session;
+
+        private Detached(WebDriver driver, PooledSession session) {
+            this.driver = driver;
+            this.session = session;
+        }
+
+        /**
+         * Закрывает браузер, если сессия так и не понадобилась.
+         */
+        public void quit() {
+            closeQuietly(driver);
+        }
+    }
+}
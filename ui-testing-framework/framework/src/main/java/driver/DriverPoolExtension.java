@@ -0,0 +1,59 @@
+package driver;
+
+import config.BrowserConfig;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * JUnit 5 расширение {@code DriverPoolExtension} подключает тестовый класс к {@link DriverPool}.
+ * <p>
+ * Перед каждым тестом берёт из пула «тёплую» сессию, после теста возвращает её в пул
+ * вместо вызова {@code closeWebDriver()}. Тела тестов при этом не меняются:
+ * <pre>{@code
+ * @ExtendWith(DriverPoolExtension.class)
+ * public class BaseHHTest { ... }
+ * }</pre>
+ * Если задано ограничение {@code framework.driver.sessions}, тест ждёт свободного места
+ * в {@link SessionLimiter} до получения сессии, если место не передано ему заранее ({@link #adoptPermit}).
+ * <p>
+ * Расширения {@code BeforeEachCallback} выполняются раньше {@code @BeforeEach} тестового класса, поэтому
+ * настройки браузера ({@link BrowserConfig}) применяются здесь же, до выбора сессии.
+ *
+ * @author Хабибуллина Алина
+ */
+public class DriverPoolExtension implements BeforeEachCallback, AfterEachCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(DriverPoolExtension.class);
+    private static final String PERMIT = "sessionPermit";
+
+    /**
+     * Передаёт тесту место в {@link SessionLimiter}, занятое заранее, например при подготовке браузера
+     * в {@code warmup.WarmUpExtension}: перед тестом новое место не берётся, а после теста возвращается это.
+     * Вызывается из расширения, стоящего в списке раньше {@code DriverPoolExtension}.
+     *
+     * @param context контекст теста.
+     */
+    public static void adoptPermit(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(PERMIT, Boolean.TRUE);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (context.getStore(NAMESPACE).get(PERMIT) == null && SessionLimiter.acquire()) {
+            context.getStore(NAMESPACE).put(PERMIT, Boolean.TRUE);
+        }
+        BrowserConfig.apply();
+        DriverPool.shared().acquire();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        try {
+            DriverPool.shared().release(context.getExecutionException().isPresent());
+        } finally {
+            if (context.getStore(NAMESPACE).remove(PERMIT) != null) {
+                SessionLimiter.release();
+            }
+        }
+    }
+}
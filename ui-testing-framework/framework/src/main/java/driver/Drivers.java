@@ -0,0 +1,31 @@
+package driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+
+/**
+ * Вспомогательные методы для работы с экземплярами {@link WebDriver}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Drivers {
+
+    private Drivers() {
+    }
+
+    /**
+     * Возвращает исходный драйвер, если он обёрнут декоратором Selenide или Selenium.
+     * Нужен для доступа к возможностям конкретного браузера ({@code HasCdp}, {@code HasDevTools})
+     * и для сравнения сессий между собой.
+     *
+     * @param driver драйвер, возможно обёрнутый.
+     * @return необёрнутый драйвер.
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        WebDriver current = driver;
+        while (current instanceof WrapsDriver) {
+            current = ((WrapsDriver) current).getWrappedDriver();
+        }
+        return current;
+    }
+}
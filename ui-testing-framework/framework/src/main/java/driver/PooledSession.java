@@ -0,0 +1,180 @@
+package driver;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import overlay.Overlays;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Класс {@code PooledSession} описывает одну браузерную сессию, хранящуюся в {@link DriverPool}.
+ * <p>
+ * Помимо самого {@link WebDriver} хранит имя браузера, для которого была создана сессия,
+ * вкладку, открытую при запуске браузера, и количество тестов, которые уже выполнялись в этой сессии.
+ * К исходной вкладке подключены DevTools-сессии фреймворка ({@code NetworkBlocker}, {@code DomWatcher} и др.),
+ * поэтому между тестами закрываются только остальные вкладки.
+ *
+ * @author Хабибуллина Алина
+ */
+final class PooledSession {
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+
+    private final WebDriver driver;
+    private final String browser;
+    private final String mainHandle;
+    private int uses;
+
+    /**
+     * Создаёт описание сессии для только что запущенного драйвера и запоминает его единственную вкладку.
+     *
+     * @param driver  запущенный {@link WebDriver}.
+     * @param browser имя браузера (значение {@code Configuration.browser}).
+     */
+    PooledSession(WebDriver driver, String browser) {
+        this.driver = driver;
+        this.browser = browser;
+        this.mainHandle = driver.getWindowHandle();
+    }
+
+    WebDriver driver() {
+        return driver;
+    }
+
+    String browser() {
+        return browser;
+    }
+
+    int uses() {
+        return uses;
+    }
+
+    /**
+     * Отмечает, что сессия была использована очередным тестом.
+     *
+     * @return общее количество использований сессии.
+     */
+    int markUsed() {
+        return ++uses;
+    }
+
+    /**
+     * Проверяет, что браузер отвечает на команды и у него есть хотя бы одна вкладка.
+     *
+     * @return {@code true}, если сессию можно отдавать следующему тесту.
+     */
+    boolean isAlive() {
+        try {
+            return !driver.getWindowHandles().isEmpty();
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Приводит браузер в исходное состояние: закрывает все вкладки, кроме исходной, очищает cookies
+     * и хранилища, сбрасывает всплывающие элементы ({@link Overlays#reset(WebDriver)}) и открывает пустую страницу.
+     * <p>
+     * В браузерах семейства Chromium cookies очищаются для всех доменов, а {@code localStorage}, IndexedDB
+     * и кэши — для каждого origin из истории переходов и фреймов всех вкладок ({@code Storage.clearDataForOrigin}).
+     * В остальных браузерах хранилища очищаются только для документа, открытого в каждой вкладке.
+     * {@code sessionStorage} принадлежит вкладке: у закрытых вкладок он удаляется вместе с ними, у исходной
+     * очищается для открытого документа (для других origin исходной вкладки DevTools очистки не предоставляет).
+     *
+     * @throws WebDriverException если исходная вкладка закрыта — такую сессию нельзя вернуть в пул.
+     */
+    void reset() {
+        Set<String> handles = driver.getWindowHandles();
+        if (!handles.contains(mainHandle)) {
+            throw new WebDriverException("Исходная вкладка браузера закрыта");
+        }
+        WebDriver raw = Drivers.unwrap(driver);
+        HasCdp cdp = raw instanceof HasCdp ? (HasCdp) raw : null;
+        Set<String> origins = new LinkedHashSet<>();
+        for (String handle : handles) {
+            if (!handle.equals(mainHandle)) {
+                driver.switchTo().window(handle);
+                clearOpenDocument(cdp, origins);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(mainHandle);
+        // обработчики DevTools привязаны к вкладке, поэтому сбрасываются после возврата на исходную
+        Overlays.reset(driver);
+        clearOpenDocument(cdp, origins);
+        driver.manage().deleteAllCookies();
+
+        if (cdp != null) {
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+            }
+        }
+        driver.navigate().to("about:blank");
+    }
+
+    /**
+     * Очищает хранилища документа текущей вкладки и собирает origin, которые посещала вкладка.
+     */
+    private void clearOpenDocument(HasCdp cdp, Set<String> origins) {
+        if (driver instanceof JavascriptExecutor) {
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        }
+        if (cdp == null) {
+            return;
+        }
+        Map<String, Object> history = cdp.executeCdpCommand("Page.getNavigationHistory", Collections.emptyMap());
+        for (Object entry : (List<?>) history.getOrDefault("entries", Collections.emptyList())) {
+            addOrigin(origins, (String) ((Map<?, ?>) entry).get("url"));
+        }
+        addFrameOrigins(origins, cdp.executeCdpCommand("Page.getFrameTree", Collections.emptyMap()).get("frameTree"));
+    }
+
+    private static void addFrameOrigins(Set<String> origins, Object tree) {
+        if (!(tree instanceof Map)) {
+            return;
+        }
+        Object frame = ((Map<?, ?>) tree).get("frame");
+        if (frame instanceof Map) {
+            addOrigin(origins, (String) ((Map<?, ?>) frame).get("url"));
+        }
+        Object children = ((Map<?, ?>) tree).get("childFrames");
+        if (children instanceof List) {
+            for (Object child : (List<?>) children) {
+                addFrameOrigins(origins, child);
+            }
+        }
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        if (url == null || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return;
+        }
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort()));
+            }
+        } catch (IllegalArgumentException e) {
+            // адрес, который браузер принял, а URI — нет: его origin пропускается
+        }
+    }
+
+    /**
+     * Закрывает браузер, игнорируя ошибки уже «упавшей» сессии.
+     */
+    void quit() {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // сессия уже недоступна
+        }
+    }
+}
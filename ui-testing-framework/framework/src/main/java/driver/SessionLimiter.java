@@ -0,0 +1,72 @@
+package driver;
+
+import config.FrameworkConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Класс {@code SessionLimiter} ограничивает количество тестов, одновременно работающих с браузером.
+ * <p>
+ * Разрешение берётся перед тестом и возвращается после него ({@link DriverPoolExtension}), поэтому
+ * число занятых браузерных сессий не превышает {@code framework.driver.sessions} независимо от числа
+ * потоков, выполняющих тесты (свободные сессии пула ограничены отдельно {@code framework.driver.pool.maxIdle}).
+ * Это позволяет запускать тесты на виртуальных потоках ({@code runner.VirtualThreadRunner}):
+ * ожидающий разрешения виртуальный поток не занимает поток ОС.
+ * Значение {@code 0} (по умолчанию) снимает ограничение.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class SessionLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(SessionLimiter.class);
+
+    private static final int LIMIT = FrameworkConfig.get().getInt("framework.driver.sessions", 0);
+    private static final Semaphore PERMITS = LIMIT > 0 ? new Semaphore(LIMIT, true) : null;
+
+    private SessionLimiter() {
+    }
+
+    /**
+     * @return максимальное количество одновременных сессий или {@code 0}, если ограничения нет.
+     */
+    public static int limit() {
+        return LIMIT;
+    }
+
+    /**
+     * Ждёт, пока количество активных сессий станет меньше ограничения, и занимает одно место.
+     *
+     * @return {@code true}, если место занято и его нужно вернуть {@link #release()};
+     * {@code false}, если ограничения нет.
+     */
+    public static boolean acquire() {
+        if (PERMITS == null) {
+            return false;
+        }
+        if (!PERMITS.tryAcquire()) {
+            logger.debug("Waiting for a browser session slot ({} in use)", LIMIT);
+            PERMITS.acquireUninterruptibly();
+        }
+        return true;
+    }
+
+    /**
+     * Занимает место, только если оно свободно, не дожидаясь его.
+     *
+     * @return {@code true}, если место занято и его нужно вернуть {@link #release()};
+     * {@code false}, если свободного места нет или ограничения нет.
+     */
+    public static boolean tryAcquire() {
+        return PERMITS != null && PERMITS.tryAcquire();
+    }
+
+    /**
+     * Освобождает место, занятое {@link #acquire()} или {@link #tryAcquire()}.
+     */
+    public static void release() {
+        if (PERMITS != null) {
+            PERMITS.release();
+        }
+    }
+}
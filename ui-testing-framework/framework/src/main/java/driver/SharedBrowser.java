@@ -0,0 +1,422 @@
+package driver;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import config.FrameworkConfig;
+import footprint.ResourceTracker;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Класс {@code SharedBrowser} запускает тесты нескольких потоков в одном процессе браузера.
+ * <p>
+ * Вместо отдельного браузера на каждый тест запускается браузер-«хозяин» с удалённой отладкой,
+ * а каждому тесту создаётся собственный изолированный контекст ({@code Target.createBrowserContext} —
+ * отдельные cookies, хранилища и кэш, как в окне инкогнито) с одной вкладкой. Поток теста получает
+ * сессию WebDriver, подключённую к этому браузеру ({@code debuggerAddress}) и переключённую на свою вкладку;
+ * она привязывается к потоку через {@code WebDriverRunner}, поэтому {@code Component} и {@code BasePage}
+ * работают без изменений. После теста контекст удаляется вместе с вкладкой, а подключённая сессия остаётся
+ * у браузера и переключается на вкладку следующего теста, так что процесс {@code chromedriver} не запускается
+ * на каждый тест. Подключённых сессий у браузера не больше, чем одновременных тестов: у сессии одна текущая
+ * вкладка, поэтому два теста одну сессию не делят.
+ * <p>
+ * Браузер запускается вне общей блокировки: поток, которому нужен новый браузер, резервирует его и запускает,
+ * остальные потоки, попавшие в этот браузер, ждут окончания запуска, а тесты в уже работающих браузерах
+ * продолжают получать контексты.
+ * <p>
+ * Процессы браузера, GPU и сети общие для всех тестов одного браузера, отдельным остаётся только процесс
+ * отрисовки вкладки, поэтому память на одновременный тест заметно меньше. Одним браузером обслуживается до
+ * {@code framework.driver.shared.contexts} (8) тестов, при большем числе запускается следующий. Память
+ * общего браузера учитывается {@link ResourceTracker}: браузер, превысивший {@code framework.resources.browserRssMb},
+ * не получает новых тестов и закрывается после окончания последнего из своих тестов.
+ * <p>
+ * Режим включается {@code -Dframework.driver.shared.enabled=true} и работает только с локальными Chrome и Edge;
+ * для остальных браузеров тесты используют {@link DriverPool}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class SharedBrowser {
+    private static final Logger logger = LoggerFactory.getLogger(SharedBrowser.class);
+
+    private static final SharedBrowser SHARED = new SharedBrowser(
+            FrameworkConfig.get().getBoolean("framework.driver.shared.enabled", false),
+            FrameworkConfig.get().getInt("framework.driver.shared.contexts", 8));
+
+    private final List<Host> hosts = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ThreadLocal<Lease> active = new ThreadLocal<>();
+    private final boolean enabled;
+    private final int contexts;
+
+    SharedBrowser(boolean enabled, int contexts) {
+        this.enabled = enabled;
+        this.contexts = contexts;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "shared-browser-shutdown"));
+    }
+
+    /**
+     * @return общий экземпляр.
+     */
+    public static SharedBrowser shared() {
+        return SHARED;
+    }
+
+    /**
+     * Проверяет, что режим включён и поддерживается текущим браузером.
+     *
+     * @return {@code true}, если тесты запускаются в общем браузере.
+     */
+    public boolean isEnabled() {
+        return enabled && Configuration.remote == null
+                && ("chrome".equalsIgnoreCase(Configuration.browser) || "edge".equalsIgnoreCase(Configuration.browser));
+    }
+
+    /**
+     * Создаёт для текущего потока изолированный контекст в общем браузере и привязывает к потоку
+     * подключённую к нему сессию WebDriver.
+     */
+    public void acquire() {
+        if (WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+        Host host = lease();
+        String contextId = null;
+        WebDriver client = null;
+        try {
+            contextId = (String) host.cdp("Target.createBrowserContext", Map.of("disposeOnDetach", false))
+                    .get("browserContextId");
+            String targetId = (String) host.cdp("Target.createTarget",
+                    Map.of("url", "about:blank", "browserContextId", contextId)).get("targetId");
+            client = host.client();
+            client.switchTo().window(targetId);
+            WebDriverRunner.setWebDriver(client);
+            active.set(new Lease(host, client, contextId));
+            logger.debug("Attached to shared {} browser on port {} (context {})", host.browser, host.port, contextId);
+        } catch (WebDriverException e) {
+            dispose(host, contextId);
+            // сессия могла остаться в неизвестном состоянии, поэтому в браузер не возвращается
+            Host.close(client);
+            unlease(host, null, !host.isAlive(), false);
+            throw e;
+        }
+    }
+
+    /**
+     * Отвязывает сессию от текущего потока и удаляет его контекст вместе с вкладкой. Сессия возвращается
+     * браузеру для следующего теста.
+     *
+     * @param failed {@code true}, если тест завершился ошибкой; в этом случае браузер проверяется
+     *               на работоспособность и при сбое закрывается.
+     * @return {@code true}, если у потока был контекст общего браузера.
+     */
+    public boolean release(boolean failed) {
+        Lease lease = active.get();
+        if (lease == null) {
+            return false;
+        }
+        active.remove();
+        WebDriverRunner.webdriverContainer.resetWebDriver();
+        dispose(lease.host, lease.contextId);
+        boolean overBudget = ResourceTracker.sample(lease.host.driver());
+        unlease(lease.host, lease.client, failed && !lease.host.isAlive(), overBudget);
+        return true;
+    }
+
+    /**
+     * Закрывает все общие браузеры.
+     */
+    public void shutdown() {
+        List<Host> closing;
+        lock.lock();
+        try {
+            closing = new ArrayList<>(hosts);
+            hosts.clear();
+        } finally {
+            lock.unlock();
+        }
+        closing.forEach(Host::quit);
+    }
+
+    /**
+     * Занимает место в подходящем браузере. Новый браузер резервируется под блокировкой, а запускается
+     * после её снятия тем потоком, который его зарезервировал; остальные потоки ждут окончания запуска.
+     */
+    private Host lease() {
+        Host host = null;
+        boolean starter = false;
+        int number;
+        lock.lock();
+        try {
+            for (Host candidate : hosts) {
+                if (!candidate.retired && candidate.leased < contexts && candidate.browser.equals(Configuration.browser)) {
+                    host = candidate;
+                    break;
+                }
+            }
+            if (host == null) {
+                host = new Host(Configuration.browser);
+                hosts.add(host);
+                starter = true;
+            }
+            host.leased++;
+            number = hosts.size();
+        } finally {
+            lock.unlock();
+        }
+        if (starter) {
+            try {
+                host.start();
+            } catch (RuntimeException e) {
+                remove(host);
+                throw e;
+            }
+            logger.info("Started shared {} browser #{} on port {}", host.browser, number, host.port);
+        } else {
+            host.driver();
+        }
+        return host;
+    }
+
+    private void remove(Host host) {
+        lock.lock();
+        try {
+            hosts.remove(host);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Возвращает контекст и подключённую сессию браузеру. Упавший браузер закрывается сразу; браузер,
+     * превысивший ограничение памяти, больше не получает новых тестов и закрывается после окончания
+     * последнего из своих тестов.
+     */
+    private void unlease(Host host, WebDriver client, boolean broken, boolean overBudget) {
+        boolean quit;
+        lock.lock();
+        try {
+            host.leased--;
+            host.retired |= overBudget;
+            quit = broken || host.retired && host.leased == 0;
+            if (quit) {
+                hosts.remove(host);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!quit) {
+            if (client != null) {
+                host.giveBack(client);
+            }
+            return;
+        }
+        logger.info(broken ? "Closing crashed shared {} browser on port {}" : "Closing retired shared {} browser on port {}",
+                host.browser, host.port);
+        Host.close(client);
+        host.quit();
+    }
+
+    private static void dispose(Host host, String contextId) {
+        if (contextId == null) {
+            return;
+        }
+        try {
+            host.cdp("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+        } catch (WebDriverException e) {
+            logger.debug("Failed to dispose browser context {}: {}", contextId, e.getMessage());
+        }
+    }
+
+    /**
+     * Контекст общего браузера, занятый потоком теста.
+     */
+    private static final class Lease {
+        private final Host host;
+        private final WebDriver client;
+        private final String contextId;
+
+        private Lease(Host host, WebDriver client, String contextId) {
+            this.host = host;
+            this.client = client;
+            this.contextId = contextId;
+        }
+    }
+
+    /**
+     * Браузер с удалённой отладкой, в котором создаются контексты тестов.
+     * <p>
+     * Обращения к управляющей сессии и к списку свободных подключённых сессий защищены {@link ReentrantLock},
+     * а не монитором объекта: команда CDP — это запрос к драйверу, и ожидающий её виртуальный поток
+     * не должен занимать поток-носитель.
+     */
+    private static final class Host {
+        private final String browser;
+        private final int port = freePort();
+        private final CompletableFuture<ChromiumDriver> started = new CompletableFuture<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Deque<WebDriver> idle = new ArrayDeque<>();
+        private boolean closed;
+        private int leased;
+        private boolean retired;
+
+        private Host(String browser) {
+            this.browser = browser;
+        }
+
+        /**
+         * Запускает браузер. Вызывается один раз потоком, зарезервировавшим браузер, вне общей блокировки.
+         */
+        void start() {
+            try {
+                ChromiumOptions<?> options = options(browser);
+                options.addArguments("--remote-debugging-port=" + port);
+                if (Configuration.headless) {
+                    options.addArguments("--headless=new");
+                }
+                if (Configuration.browserSize != null) {
+                    options.addArguments("--window-size=" + Configuration.browserSize.replace('x', ','));
+                }
+                if (Configuration.browserBinary != null && !Configuration.browserBinary.isEmpty()) {
+                    options.setBinary(Configuration.browserBinary);
+                }
+                started.complete(options instanceof EdgeOptions
+                        ? new EdgeDriver((EdgeOptions) options) : new ChromeDriver((ChromeOptions) options));
+            } catch (RuntimeException e) {
+                started.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        /**
+         * Возвращает управляющую сессию браузера, дожидаясь окончания запуска.
+         */
+        ChromiumDriver driver() {
+            try {
+                return started.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause() : new WebDriverException(e.getCause());
+            }
+        }
+
+        /**
+         * Возвращает свободную подключённую сессию или создаёт новую. Закрытие такой сессии не закрывает браузер.
+         */
+        WebDriver client() {
+            lock.lock();
+            try {
+                if (!idle.isEmpty()) {
+                    return idle.pop();
+                }
+            } finally {
+                lock.unlock();
+            }
+            ChromiumOptions<?> options = options(browser);
+            options.setExperimentalOption("debuggerAddress", "127.0.0.1:" + port);
+            return options instanceof EdgeOptions
+                    ? new EdgeDriver((EdgeOptions) options) : new ChromeDriver((ChromeOptions) options);
+        }
+
+        /**
+         * Возвращает подключённую сессию в список свободных, если браузер ещё не закрыт.
+         */
+        void giveBack(WebDriver client) {
+            lock.lock();
+            try {
+                if (!closed) {
+                    idle.push(client);
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            close(client);
+        }
+
+        Map<String, Object> cdp(String command, Map<String, Object> parameters) {
+            ChromiumDriver driver = driver();
+            lock.lock();
+            try {
+                Map<String, Object> result = driver.executeCdpCommand(command, new HashMap<>(parameters));
+                return result == null ? Map.of() : result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean isAlive() {
+            try {
+                ChromiumDriver driver = driver();
+                lock.lock();
+                try {
+                    return !driver.getWindowHandles().isEmpty();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (WebDriverException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Закрывает подключённые сессии и браузер. Если браузер ещё запускается, он закрывается по окончании запуска.
+         */
+        void quit() {
+            List<WebDriver> clients;
+            lock.lock();
+            try {
+                closed = true;
+                clients = new ArrayList<>(idle);
+                idle.clear();
+            } finally {
+                lock.unlock();
+            }
+            clients.forEach(Host::close);
+            started.thenAccept(Host::close);
+        }
+
+        static void close(WebDriver driver) {
+            if (driver == null) {
+                return;
+            }
+            try {
+                driver.quit();
+            } catch (WebDriverException ignored) {
+                // сессия или браузер уже недоступны
+            }
+        }
+
+        private static ChromiumOptions<?> options(String browser) {
+            return "edge".equalsIgnoreCase(browser) ? new EdgeOptions() : new ChromeOptions();
+        }
+
+        private static int freePort() {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                return socket.getLocalPort();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Не удалось выбрать порт для удалённой отладки браузера", e);
+            }
+        }
+    }
+}
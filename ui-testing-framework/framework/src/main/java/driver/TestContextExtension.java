@@ -0,0 +1,62 @@
+package driver;
+
+import basePage.Pages;
+import components.Navigation;
+import components.WaitProfile;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.MDC;
+
+/**
+ * JUnit 5 расширение {@code TestContextExtension} хранит контекст выполняемого теста
+ * в SLF4J {@link MDC} потока, который выполняет тест.
+ * <p>
+ * При параллельном запуске каждый поток пишет в лог имя своего теста
+ * ({@code test}, {@code testClass}, {@code testMethod}) и имя рабочего потока ({@code worker}),
+ * поэтому строки разных тестов можно разделить по шаблону логгера, например {@code %X{test}}.
+ * После теста контекст очищается вместе со страницами, созданными через {@link Pages},
+ * и профилем ожидания текущей страницы ({@link WaitProfile}), а эпоха {@link Navigation} сдвигается,
+ * поскольку браузер возвращается в пул на пустой странице.
+ *
+ * @author Хабибуллина Алина
+ */
+public class TestContextExtension implements BeforeEachCallback, AfterEachCallback {
+    /**
+     * Ключ MDC с полным именем теста.
+     */
+    public static final String TEST = "test";
+    /**
+     * Ключ MDC с именем тестового класса.
+     */
+    public static final String TEST_CLASS = "testClass";
+    /**
+     * Ключ MDC с именем тестового метода.
+     */
+    public static final String TEST_METHOD = "testMethod";
+    /**
+     * Ключ MDC с именем рабочего потока.
+     */
+    public static final String WORKER = "worker";
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        String testClass = context.getRequiredTestClass().getSimpleName();
+        String testMethod = context.getRequiredTestMethod().getName();
+        MDC.put(TEST, testClass + "." + testMethod);
+        MDC.put(TEST_CLASS, testClass);
+        MDC.put(TEST_METHOD, testMethod);
+        MDC.put(WORKER, Thread.currentThread().getName());
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Pages.clear();
+        Navigation.navigated();
+        WaitProfile.enterPage(null);
+        MDC.remove(TEST);
+        MDC.remove(TEST_CLASS);
+        MDC.remove(TEST_METHOD);
+        MDC.remove(WORKER);
+    }
+}
@@ -3,7 +3,7 @@ package elements;
 import components.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import static com.codeborne.selenide.Selenide.$x;
+import static com.codeborne.selenide.Selenide.$;
 
 /**
  * Базовый класс {@code BaseElement} представляет собой абстракцию над
@@ -26,8 +26,20 @@ public class BaseElement extends Component {
      * @param XPath XPath-выражение, указывающее на элемент.
      */
     protected BaseElement(String XPath) {
-        super($x(XPath));
-        logger.info("Initialized element with XPath: {}", XPath);
+        this(LocatorRegistry.ofXPath(XPath));
+    }
+
+    /**
+     * Конструктор элемента по скомпилированному локатору.
+     * Если у локатора есть CSS-селектор, элемент ищется по нему, иначе — по XPath.
+     *
+     * @param locator локатор элемента.
+     */
+    protected BaseElement(Locator locator) {
+        super($(locator.by()), locator.getXPath());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Initialized {} with locator: {}", getClass().getSimpleName(), locator);
+        }
     }
 
     /**
@@ -35,7 +47,7 @@ public class BaseElement extends Component {
      * Может использоваться для имитации пользовательского взаимодействия с элементом.
      */
     public void focus() {
-        element.hover();
+        perform("hover", e -> e.hover());
     }
 
     /**
@@ -44,6 +56,6 @@ public class BaseElement extends Component {
      * @return {@code true}, если элемент доступен для взаимодействия; {@code false} в противном случае.
      */
     public boolean isEnabled() {
-        return element.isEnabled();
+        return query("isEnabled", e -> e.isEnabled());
     }
 }
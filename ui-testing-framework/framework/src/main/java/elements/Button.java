@@ -27,7 +27,15 @@ public class Button extends BaseElement {
      */
     protected Button(String XPath) {
         super(XPath);
-        logger.info("Initialized button with XPath: {}", XPath);
+    }
+
+    /**
+     * Конструктор кнопки по скомпилированному локатору.
+     *
+     * @param locator локатор кнопки, построенный {@link XPathBuilder#toLocator()}.
+     */
+    protected Button(Locator locator) {
+        super(locator);
     }
 
     /**
@@ -48,7 +56,7 @@ public class Button extends BaseElement {
      * @return экземпляр {@code Button}.
      */
     public static Button byAttribute(String attribute, String value) {
-        return new Button(new XPathBuilder("button").withAttribute(attribute, value).build());
+        return new Button(new XPathBuilder("button").withAttribute(attribute, value).toLocator());
     }
 
     /**
@@ -59,7 +67,7 @@ public class Button extends BaseElement {
      * @return экземпляр {@code Button}.
      */
     public static Button byContainsAttribute(String attribute, String value) {
-        return new Button(new XPathBuilder("button").containsAttribute(attribute, value).build());
+        return new Button(new XPathBuilder("button").containsAttribute(attribute, value).toLocator());
     }
 
     /**
@@ -69,7 +77,7 @@ public class Button extends BaseElement {
      * @return экземпляр {@code Button}.
      */
     public static Button byText(String text) {
-        return new Button(new XPathBuilder("button").withText(text).build());
+        return new Button(new XPathBuilder("button").withText(text).toLocator());
     }
 
     /**
@@ -79,7 +87,7 @@ public class Button extends BaseElement {
      * @return экземпляр {@code Button}.
      */
     public static Button byContainsText(String text) {
-        return new Button(new XPathBuilder("button").containsText(text).build());
+        return new Button(new XPathBuilder("button").containsText(text).toLocator());
     }
 
     /**
@@ -193,8 +201,9 @@ public class Button extends BaseElement {
      * Ожидает, что кнопка будет активна и доступна для взаимодействия.
      */
     public void click() {
-        element.shouldBe(enabled).click();
-        logger.info("Clicked button with XPath: {}", element);
+        waitUntil(enabled);
+        perform("click", e -> e.click());
+        logger.info("Clicked button with XPath: {}", xpath);
     }
 
     /**
@@ -203,6 +212,6 @@ public class Button extends BaseElement {
      * @return текст кнопки.
      */
     public String getText() {
-        return element.getText();
+        return query("getText", e -> e.getText());
     }
 }
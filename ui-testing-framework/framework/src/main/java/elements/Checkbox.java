@@ -29,7 +29,15 @@ public class Checkbox extends BaseElement {
      */
     protected Checkbox(String XPath) {
         super(XPath);
-        logger.info("Initialized checkbox with XPath: {}", XPath);
+    }
+
+    /**
+     * Конструктор чекбокса по скомпилированному локатору.
+     *
+     * @param locator локатор чекбокса, построенный {@link XPathBuilder#toLocator()}.
+     */
+    protected Checkbox(Locator locator) {
+        super(locator);
     }
 
     /**
@@ -53,7 +61,7 @@ public class Checkbox extends BaseElement {
         return new Checkbox(new XPathBuilder("input")
                 .withAttribute("type", "checkbox")
                 .withAttribute(attribute, value)
-                .build());
+                .toLocator());
     }
 
     /**
@@ -67,7 +75,7 @@ public class Checkbox extends BaseElement {
         return new Checkbox(new XPathBuilder("input")
                 .withAttribute("type", "checkbox")
                 .containsAttribute(attribute, value)
-                .build());
+                .toLocator());
     }
 
     /**
@@ -171,8 +179,9 @@ public class Checkbox extends BaseElement {
      */
     public void check() {
         if (!isChecked()) {
-            element.shouldBe(enabled).click();
-            logger.info("Checked checkbox: {}", element);
+            waitUntil(enabled);
+            perform("click", e -> e.click());
+            logger.info("Checked checkbox: {}", xpath);
         }
     }
 
@@ -181,8 +190,9 @@ public class Checkbox extends BaseElement {
      */
     public void uncheck() {
         if (isChecked()) {
-            element.shouldBe(enabled).click();
-            logger.info("Unchecked checkbox: {}", element);
+            waitUntil(enabled);
+            perform("click", e -> e.click());
+            logger.info("Unchecked checkbox: {}", xpath);
         }
     }
 
@@ -192,18 +202,18 @@ public class Checkbox extends BaseElement {
      * @return {@code true}, если флажок установлен; {@code false} в противном случае.
      */
     public boolean isChecked() {
-        boolean state = element.isSelected();
+        boolean state = query("isChecked", e -> e.isSelected());
         logger.info("Checkbox checked: {}", state);
         return state;
     }
 
     public void shouldBeChecked() {
-        element.shouldBe(selected);
+        waitUntil(selected);
         logger.info("Checkbox is checked");
     }
 
     public void shouldNotBeChecked() {
-        element.shouldNotBe(selected);
+        waitUntilNot(selected);
         logger.info("Checkbox is not checked");
     }
 
@@ -0,0 +1,193 @@
+package elements;
+
+import com.codeborne.selenide.Selenide;
+import components.Component;
+import components.ElementCache;
+import metrics.StepMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс {@code Form} заполняет несколько полей формы за одно обращение к браузеру.
+ * <p>
+ * {@link TextInput#setValue(String)} для каждого поля ждёт его видимости и посылает нажатия клавиш —
+ * это несколько команд WebDriver на поле. {@code Form} передаёт все значения одним скриптом: текстовым полям
+ * значение присваивается через встроенный сеттер {@code value} поля, области текста или списка
+ * (его замечают React и другие фреймворки) с событиями {@code input} и {@code change}, флажки
+ * и переключатели щёлкаются, только если их состояние отличается от нужного. Поля, которых ещё нет на странице, которые не отображаются (скрытые, в шаблоне
+ * или в свёрнутом блоке), недоступны для изменения, не принимают значение (нет такого варианта в списке)
+ * или не являются полями ввода ({@code contenteditable}), заполняются обычными методами элементов с ожиданием.
+ * <pre>{@code
+ * Form.create()
+ *         .set(usernameField, username)
+ *         .set(passwordField, password)
+ *         .set(rememberCheckbox, true)
+ *         .fill();
+ * }</pre>
+ * Если форма проверяет ввод по нажатиям клавиш (маски, автодополнение), включите {@link #keystrokes()}:
+ * тогда поля заполняются по одному, как пользователем.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Form {
+    private static final Logger logger = LoggerFactory.getLogger(Form.class);
+
+    private static final String FILL_SCRIPT =
+            "var fields = arguments[0], rejected = [];"
+            + "for (var i = 0; i < fields.length; i++) {"
+            + "  var f = fields[i];"
+            + "  var el = document.evaluate(f[0], document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+            + "      .singleNodeValue;"
+            + "  if (!el || el.disabled || el.readOnly || el.getClientRects().length === 0) {"
+            + "    rejected.push(i); continue;"
+            + "  }"
+            + "  if (f[1] === 'text') {"
+            + "    var proto = el instanceof HTMLInputElement ? HTMLInputElement.prototype"
+            + "        : el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype"
+            + "        : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : null;"
+            + "    if (!proto) { rejected.push(i); continue; }"
+            + "    el.focus();"
+            + "    try { Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, f[2]); } catch (e) {}"
+            + "    if (el.value !== f[2]) { el.blur(); rejected.push(i); continue; }"
+            + "    el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "    el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "    el.blur();"
+            + "  } else if (el.checked !== f[2]) {"
+            + "    el.click();"
+            + "    if (el.checked !== f[2]) { rejected.push(i); }"
+            + "  }"
+            + "}"
+            + "return rejected;";
+
+    private final Map<Component, Object> values = new LinkedHashMap<>();
+    private boolean keystrokes;
+
+    private Form() {
+    }
+
+    /**
+     * @return пустая форма.
+     */
+    public static Form create() {
+        return new Form();
+    }
+
+    /**
+     * Создаёт форму из готового набора значений: {@link String} для {@link TextInput},
+     * {@link Boolean} для {@link Checkbox} и {@link RadioButton} ({@code true} — выбрать).
+     *
+     * @param values поля и их значения в порядке заполнения.
+     * @return форма.
+     */
+    public static Form of(Map<? extends Component, ?> values) {
+        Form form = new Form();
+        values.forEach(form::put);
+        return form;
+    }
+
+    /**
+     * Добавляет значение текстового поля.
+     *
+     * @param input поле.
+     * @param value значение.
+     * @return эта форма.
+     */
+    public Form set(TextInput input, String value) {
+        return put(input, value);
+    }
+
+    /**
+     * Добавляет состояние флажка.
+     *
+     * @param checkbox флажок.
+     * @param checked  {@code true} — отметить, {@code false} — снять отметку.
+     * @return эта форма.
+     */
+    public Form set(Checkbox checkbox, boolean checked) {
+        return put(checkbox, checked);
+    }
+
+    /**
+     * Добавляет выбор переключателя.
+     *
+     * @param radio переключатель.
+     * @return эта форма.
+     */
+    public Form select(RadioButton radio) {
+        return put(radio, true);
+    }
+
+    /**
+     * Включает заполнение по одному полю с нажатиями клавиш, как это делает пользователь.
+     *
+     * @return эта форма.
+     */
+    public Form keystrokes() {
+        this.keystrokes = true;
+        return this;
+    }
+
+    /**
+     * Заполняет форму.
+     */
+    public void fill() {
+        if (keystrokes) {
+            values.forEach(Form::fillOne);
+            return;
+        }
+        List<Component> fields = new ArrayList<>(values.keySet());
+        List<List<Object>> arguments = new ArrayList<>(fields.size());
+        for (Component field : fields) {
+            Object value = values.get(field);
+            arguments.add(Arrays.asList(field.getXPath(), value instanceof String ? "text" : "check", value));
+        }
+        List<?> rejected;
+        try {
+            rejected = StepMetrics.time("fill", null, () -> Selenide.executeJavaScript(FILL_SCRIPT, arguments));
+        } finally {
+            ElementCache.invalidate();
+        }
+        logger.debug("Filled {} form fields in one script", fields.size() - (rejected == null ? 0 : rejected.size()));
+        if (rejected != null) {
+            for (Object index : rejected) {
+                Component field = fields.get(((Number) index).intValue());
+                logger.debug("Field {} is not ready, filling it with waits", field.getXPath());
+                fillOne(field, values.get(field));
+            }
+        }
+    }
+
+    private Form put(Component field, Object value) {
+        if (field.getXPath() == null) {
+            throw new IllegalArgumentException("Поле формы должно быть создано по XPath: " + field);
+        }
+        boolean text = field instanceof TextInput && value instanceof String;
+        boolean check = (field instanceof Checkbox || field instanceof RadioButton) && value instanceof Boolean;
+        if (!text && !check) {
+            throw new IllegalArgumentException("Неподдерживаемое значение " + value + " для " + field.getClass().getSimpleName());
+        }
+        if (field instanceof RadioButton && !((Boolean) value)) {
+            throw new IllegalArgumentException("Переключатель можно только выбрать: " + field.getXPath());
+        }
+        values.put(field, value);
+        return this;
+    }
+
+    private static void fillOne(Component field, Object value) {
+        if (field instanceof TextInput) {
+            ((TextInput) field).setValue((String) value);
+        } else if (field instanceof RadioButton) {
+            ((RadioButton) field).select();
+        } else if ((Boolean) value) {
+            ((Checkbox) field).check();
+        } else {
+            ((Checkbox) field).uncheck();
+        }
+    }
+}
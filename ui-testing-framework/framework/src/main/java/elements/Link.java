@@ -26,7 +26,15 @@ public class Link extends BaseElement {
      */
     protected Link(String XPath) {
         super(XPath);
-        logger.info("Initialized link with XPath: {}", XPath);
+    }
+
+    /**
+     * Конструктор ссылки по скомпилированному локатору.
+     *
+     * @param locator локатор ссылки, построенный {@link XPathBuilder#toLocator()}.
+     */
+    protected Link(Locator locator) {
+        super(locator);
     }
 
     /**
@@ -37,7 +45,7 @@ public class Link extends BaseElement {
      * @return экземпляр {@code Link}.
      */
     public static Link byAttribute(String attribute, String value) {
-        return new Link(new XPathBuilder("a").withAttribute(attribute, value).build());
+        return new Link(new XPathBuilder("a").withAttribute(attribute, value).toLocator());
     }
 
     /**
@@ -48,7 +56,7 @@ public class Link extends BaseElement {
      * @return экземпляр {@code Link}.
      */
     public static Link byContainsAttribute(String attribute, String value) {
-        return new Link(new XPathBuilder("a").containsAttribute(attribute, value).build());
+        return new Link(new XPathBuilder("a").containsAttribute(attribute, value).toLocator());
     }
 
     /**
@@ -68,7 +76,7 @@ public class Link extends BaseElement {
      * @return экземпляр {@code Link}.
      */
     public static Link byText(String text) {
-        return new Link(new XPathBuilder("a").withText(text).build());
+        return new Link(new XPathBuilder("a").withText(text).toLocator());
     }
 
     /**
@@ -78,7 +86,7 @@ public class Link extends BaseElement {
      * @return экземпляр {@code Link}.
      */
     public static Link byContainsText(String text) {
-        return new Link(new XPathBuilder("a").containsText(text).build());
+        return new Link(new XPathBuilder("a").containsText(text).toLocator());
     }
 
     /**
@@ -208,8 +216,9 @@ public class Link extends BaseElement {
      * Ожидает, что ссылка будет видимой.
      */
     public void click() {
-        element.shouldBe(visible).click();
-        logger.info("Clicked link with XPath: {}", element);
+        waitUntil(visible);
+        perform("click", e -> e.click());
+        logger.info("Clicked link with XPath: {}", xpath);
     }
 
     /**
@@ -218,8 +227,9 @@ public class Link extends BaseElement {
      * @return значение {@code href}.
      */
     public String getHref() {
-        String href = element.shouldBe(visible).getAttribute("href");
-        logger.info("Retrieved href '{}' from link with XPath: {}", href, element);
+        waitUntil(visible);
+        String href = query("getHref", e -> e.getAttribute("href"));
+        logger.info("Retrieved href '{}' from link with XPath: {}", href, xpath);
         return href;
     }
 
@@ -229,8 +239,9 @@ public class Link extends BaseElement {
      * @return текст ссылки.
      */
     public String getText() {
-        String text = element.shouldBe(visible).getText();
-        logger.info("Retrieved text '{}' from link with XPath: {}", text, element);
+        waitUntil(visible);
+        String text = query("getText", e -> e.getText());
+        logger.info("Retrieved text '{}' from link with XPath: {}", text, xpath);
         return text;
     }
 }
@@ -0,0 +1,63 @@
+package elements;
+
+import config.FrameworkConfig;
+import org.openqa.selenium.By;
+
+/**
+ * Класс {@code Locator} — неизменяемый скомпилированный локатор элемента.
+ * <p>
+ * Всегда содержит XPath-выражение и, если условия поиска это позволяют, эквивалентный CSS-селектор.
+ * Поиск по CSS в Chromium/Edge выполняется заметно быстрее, поэтому {@link #by()} использует CSS,
+ * когда он доступен и не отключён свойством {@code -Dframework.locators.css=false}.
+ * Экземпляры создаются и кэшируются {@link LocatorRegistry}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Locator {
+    private static final boolean PREFER_CSS =
+            FrameworkConfig.get().getBoolean("framework.locators.css", true);
+
+    private final String xpath;
+    private final String css;
+    private final By by;
+
+    /**
+     * Создаёт локатор.
+     *
+     * @param xpath XPath-выражение.
+     * @param css   эквивалентный CSS-селектор или {@code null}, если его нельзя построить.
+     */
+    Locator(String xpath, String css) {
+        this.xpath = xpath;
+        this.css = css;
+        this.by = PREFER_CSS && css != null ? By.cssSelector(css) : By.xpath(xpath);
+    }
+
+    /**
+     * @return XPath-выражение локатора.
+     */
+    public String getXPath() {
+        return xpath;
+    }
+
+    /**
+     * @return CSS-селектор или {@code null}, если условия поиска нельзя выразить на CSS.
+     */
+    public String getCss() {
+        return css;
+    }
+
+    /**
+     * Возвращает способ поиска элемента: CSS-селектор, если он доступен, иначе XPath.
+     *
+     * @return {@link By} для поиска элемента.
+     */
+    public By by() {
+        return by;
+    }
+
+    @Override
+    public String toString() {
+        return by.toString();
+    }
+}
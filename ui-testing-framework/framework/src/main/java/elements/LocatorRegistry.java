@@ -0,0 +1,181 @@
+package elements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Класс {@code LocatorRegistry} — общий потокобезопасный реестр скомпилированных локаторов.
+ * <p>
+ * Локаторы, построенные {@link XPathBuilder}, кэшируются по ключу (тег, список условий), поэтому
+ * повторное создание страницы не собирает строки XPath/CSS заново. Реестр ведёт статистику
+ * попаданий в кэш ({@link #stats()}).
+ *
+ * @author Хабибуллина Алина
+ */
+public final class LocatorRegistry {
+    private static final Pattern CSS_IDENTIFIER = Pattern.compile("[A-Za-z_][-A-Za-z0-9_]*");
+
+    private static final Map<Key, Locator> LOCATORS = new ConcurrentHashMap<>();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Возвращает локатор для тега и условий поиска, компилируя его при первом обращении.
+     *
+     * @param tag        имя HTML-тега.
+     * @param predicates условия поиска.
+     * @return скомпилированный локатор.
+     */
+    static Locator locate(String tag, List<XPathBuilder.Predicate> predicates) {
+        Key key = new Key(tag, predicates);
+        Locator locator = LOCATORS.get(key);
+        if (locator != null) {
+            HITS.increment();
+            return locator;
+        }
+        MISSES.increment();
+        List<XPathBuilder.Predicate> copy = Collections.unmodifiableList(new ArrayList<>(predicates));
+        return LOCATORS.computeIfAbsent(new Key(tag, copy), k -> new Locator(toXPath(tag, copy), toCss(tag, copy)));
+    }
+
+    /**
+     * Возвращает локатор для готового XPath-выражения. Такой локатор ничего не компилирует, поэтому
+     * не кэшируется и не учитывается в статистике: готовые выражения бывают уникальными
+     * (например, {@code (xpath)[n]} для каждого элемента списка), и реестр рос бы без ограничения.
+     *
+     * @param xpath XPath-выражение.
+     * @return локатор без CSS-селектора.
+     */
+    public static Locator ofXPath(String xpath) {
+        return new Locator(xpath, null);
+    }
+
+    /**
+     * Возвращает статистику использования реестра.
+     *
+     * @return статистика реестра.
+     */
+    public static Stats stats() {
+        return new Stats(HITS.sum(), MISSES.sum(), LOCATORS.size());
+    }
+
+    /**
+     * Очищает реестр и статистику.
+     */
+    public static void clear() {
+        LOCATORS.clear();
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    private static String toXPath(String tag, List<XPathBuilder.Predicate> predicates) {
+        StringBuilder xpath = new StringBuilder("//").append(tag);
+        for (XPathBuilder.Predicate predicate : predicates) {
+            predicate.appendXPath(xpath);
+        }
+        return xpath.toString();
+    }
+
+    private static String toCss(String tag, List<XPathBuilder.Predicate> predicates) {
+        if (!CSS_IDENTIFIER.matcher(tag).matches()) {
+            return null;
+        }
+        StringBuilder css = new StringBuilder(tag);
+        for (XPathBuilder.Predicate predicate : predicates) {
+            if (!predicate.appendCss(css, CSS_IDENTIFIER)) {
+                return null;
+            }
+        }
+        return css.toString();
+    }
+
+    /**
+     * Ключ кэша: тег и список условий.
+     */
+    private static final class Key {
+        private final String tag;
+        private final List<XPathBuilder.Predicate> predicates;
+        private final int hash;
+
+        Key(String tag, List<XPathBuilder.Predicate> predicates) {
+            this.tag = tag;
+            this.predicates = predicates;
+            this.hash = 31 * tag.hashCode() + predicates.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return hash == key.hash && tag.equals(key.tag) && predicates.equals(key.predicates);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Статистика использования реестра локаторов.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final int size;
+
+        Stats(long hits, long misses, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.size = size;
+        }
+
+        /**
+         * @return количество обращений, обслуженных из кэша.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * @return количество обращений, потребовавших компиляции локатора.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * @return количество локаторов в реестре.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return доля обращений, обслуженных из кэша (от 0 до 1).
+         */
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "LocatorRegistry.Stats{hits=" + hits + ", misses=" + misses + ", size=" + size
+                    + ", hitRate=" + String.format("%.2f", getHitRate()) + '}';
+        }
+    }
+}
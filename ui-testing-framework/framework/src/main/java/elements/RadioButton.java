@@ -29,7 +29,15 @@ public class RadioButton extends BaseElement {
      */
     protected RadioButton(String XPath) {
         super(XPath);
-        logger.info("Initialized radio button with XPath: {}", XPath);
+    }
+
+    /**
+     * Конструктор радио-кнопки по скомпилированному локатору.
+     *
+     * @param locator локатор радио-кнопки, построенный {@link XPathBuilder#toLocator()}.
+     */
+    protected RadioButton(Locator locator) {
+        super(locator);
     }
 
     /**
@@ -53,7 +61,7 @@ public class RadioButton extends BaseElement {
         return new RadioButton(new XPathBuilder("input")
                 .withAttribute("type", "radio")
                 .withAttribute(attribute, value)
-                .build());
+                .toLocator());
     }
 
     /**
@@ -67,7 +75,7 @@ public class RadioButton extends BaseElement {
         return new RadioButton(new XPathBuilder("input")
                 .withAttribute("type", "radio")
                 .containsAttribute(attribute, value)
-                .build());
+                .toLocator());
     }
 
     /**
@@ -172,10 +180,11 @@ public class RadioButton extends BaseElement {
      */
     public void select() {
         if (!isSelected()) {
-            element.shouldBe(enabled).click();
-            logger.info("Radio button selected: {}", element);
+            waitUntil(enabled);
+            perform("click", e -> e.click());
+            logger.info("Radio button selected: {}", xpath);
         } else {
-            logger.info("Radio button already selected: {}", element);
+            logger.info("Radio button already selected: {}", xpath);
         }
     }
 
@@ -185,7 +194,7 @@ public class RadioButton extends BaseElement {
      * @return {@code true}, если выбрана; {@code false} — в противном случае.
      */
     public boolean isSelected() {
-        boolean selectedState = element.is(selected);
+        boolean selectedState = query("isSelected", e -> e.isSelected());
         logger.info("Radio button selected: {}", selectedState);
         return selectedState;
     }
@@ -196,7 +205,7 @@ public class RadioButton extends BaseElement {
      * Метод для написания тестов. Если радио-кнопка не выбрана, то тест упадет
      */
     public void shouldBeSelected() {
-        element.shouldBe(selected);
+        waitUntil(selected);
 
     }
 
@@ -206,7 +215,7 @@ public class RadioButton extends BaseElement {
      * Метод для написания тестов. Если радио-кнопка выбрана, то тест упадет
      */
     public void shouldNotBeSelected() {
-        element.shouldNotBe(selected);
+        waitUntilNot(selected);
 
     }
 }
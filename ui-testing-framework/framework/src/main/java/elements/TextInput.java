@@ -27,7 +27,15 @@ public class TextInput extends BaseElement {
      */
     protected TextInput(String XPath) {
         super(XPath);
-        logger.info("Initialized text input with XPath: {}", XPath);
+    }
+
+    /**
+     * Конструктор текстового поля по скомпилированному локатору.
+     *
+     * @param locator локатор текстового поля, построенный {@link XPathBuilder#toLocator()}.
+     */
+    protected TextInput(Locator locator) {
+        super(locator);
     }
 
     /**
@@ -38,7 +46,7 @@ public class TextInput extends BaseElement {
      * @return экземпляр {@code TextInput}.
      */
     public static TextInput byAttribute(String attribute, String value) {
-        return new TextInput(new XPathBuilder("input").withAttribute(attribute, value).build());
+        return new TextInput(new XPathBuilder("input").withAttribute(attribute, value).toLocator());
     }
 
     /**
@@ -49,7 +57,7 @@ public class TextInput extends BaseElement {
      * @return экземпляр {@code TextInput}.
      */
     public static TextInput byContainsAttribute(String attribute, String value) {
-        return new TextInput(new XPathBuilder("input").containsAttribute(attribute, value).build());
+        return new TextInput(new XPathBuilder("input").containsAttribute(attribute, value).toLocator());
     }
 
     /**
@@ -200,7 +208,7 @@ public class TextInput extends BaseElement {
      * <p>Вызывает исключение, если поле не пустое.</p>
      */
     public void shouldBeEmpty() {
-        element.shouldHave(value("")); // Selenide проверяет, что значение пустое
+        waitUntil(value("")); // Selenide проверяет, что значение пустое
         logger.info("Input is empty as expected");
     }
 
@@ -211,8 +219,9 @@ public class TextInput extends BaseElement {
      * @param value значение для ввода.
      */
     public void setValue(String value) {
-        element.shouldBe(visible).setValue(value);
-        logger.info("Set value '{}' for input with XPath: {}", value, element);
+        waitUntil(visible);
+        perform("setValue", e -> e.setValue(value));
+        logger.info("Set value '{}' for input with XPath: {}", value, xpath);
     }
 
     /**
@@ -221,8 +230,9 @@ public class TextInput extends BaseElement {
      * @return текущее значение поля.
      */
     public String getValue() {
-        String value = element.shouldBe(visible).getValue();
-        logger.info("Retrieved value '{}' from input with XPath: {}", value, element);
+        waitUntil(visible);
+        String value = query("getValue", e -> e.getValue());
+        logger.info("Retrieved value '{}' from input with XPath: {}", value, xpath);
         return value;
     }
 
@@ -230,7 +240,8 @@ public class TextInput extends BaseElement {
      * Очищает содержимое текстового поля.
      */
     public void clear() {
-        element.shouldBe(visible).clear();
-        logger.info("Cleared input with XPath: {}", element);
+        waitUntil(visible);
+        perform("clear", e -> e.clear());
+        logger.info("Cleared input with XPath: {}", xpath);
     }
 }
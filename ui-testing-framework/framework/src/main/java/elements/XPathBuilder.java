@@ -1,17 +1,27 @@
 package elements;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
 /**
  * Класс {@code XPathBuilder} предназначен для динамической сборки XPath-выражений.
  * <p>
  * Упрощает создание XPath с различными условиями поиска по атрибутам и тексту.
  * Поддерживает как точные совпадения атрибутов, так и частичные (через `contains()`).
  * <p>
+ * Builder только накапливает условия поиска; сами выражения собираются один раз и кэшируются
+ * в {@link LocatorRegistry}. Если условия ограничиваются атрибутами, вместе с XPath строится
+ * эквивалентный CSS-селектор ({@link #toLocator()}).
+ * <p>
  * Используется для построения XPath-выражений в классах элементов страницы.
  *
  * @author Хабибуллина Алина
  */
 public class XPathBuilder {
-    private StringBuilder xpath;
+    private final String tag;
+    private final List<Predicate> predicates = new ArrayList<>(2);
 
     /**
      * Создаёт новый экземпляр {@code XPathBuilder} с указанным тегом элемента.
@@ -19,7 +29,7 @@ public class XPathBuilder {
      * @param tag имя HTML-тега (например, "input", "button", "a").
      */
     protected XPathBuilder(String tag) {
-        this.xpath = new StringBuilder("//").append(tag);
+        this.tag = tag;
     }
 
     /**
@@ -30,7 +40,7 @@ public class XPathBuilder {
      * @return текущий экземпляр {@code XPathBuilder}.
      */
     public XPathBuilder withAttribute(String attribute, String value) {
-        xpath.append(String.format("[@%s='%s']", attribute, value));
+        predicates.add(new Predicate(Predicate.ATTRIBUTE, attribute, value));
         return this;
     }
 
@@ -39,7 +49,7 @@ public class XPathBuilder {
      * Например: [text()='Submit']
      */
     public XPathBuilder withText(String text) {
-        xpath.append(String.format("[text()='%s']", text));
+        predicates.add(new Predicate(Predicate.TEXT, null, text));
         return this;
     }
 
@@ -50,7 +60,7 @@ public class XPathBuilder {
      * @return текущий экземпляр {@code XPathBuilder}.
      */
     public XPathBuilder containsText(String text) {
-        xpath.append(String.format("[contains(text(),'%s')]", text));
+        predicates.add(new Predicate(Predicate.CONTAINS_TEXT, null, text));
         return this;
     }
 
@@ -62,7 +72,7 @@ public class XPathBuilder {
      * @return текущий экземпляр {@code XPathBuilder}.
      */
     public XPathBuilder containsAttribute(String attribute, String value) {
-        xpath.append(String.format("[contains(@%s,'%s')]", attribute, value));
+        predicates.add(new Predicate(Predicate.CONTAINS_ATTRIBUTE, attribute, value));
         return this;
     }
 
@@ -72,7 +82,16 @@ public class XPathBuilder {
      * @return готовое XPath-выражение.
      */
     public String build() {
-        return xpath.toString();
+        return toLocator().getXPath();
+    }
+
+    /**
+     * Завершает построение и возвращает скомпилированный локатор из {@link LocatorRegistry}.
+     *
+     * @return локатор с XPath и, если возможно, CSS-селектором.
+     */
+    public Locator toLocator() {
+        return LocatorRegistry.locate(tag, predicates);
     }
 
     /**
@@ -85,4 +104,82 @@ public class XPathBuilder {
         return new XPathBuilder(tagName);
     }
 
+    /**
+     * Одно условие поиска. Неизменяемо и используется как часть ключа кэша {@link LocatorRegistry}.
+     */
+    static final class Predicate {
+        static final int ATTRIBUTE = 0;
+        static final int CONTAINS_ATTRIBUTE = 1;
+        static final int TEXT = 2;
+        static final int CONTAINS_TEXT = 3;
+
+        private final int type;
+        private final String attribute;
+        private final String value;
+
+        Predicate(int type, String attribute, String value) {
+            this.type = type;
+            this.attribute = attribute;
+            this.value = value;
+        }
+
+        void appendXPath(StringBuilder xpath) {
+            switch (type) {
+                case ATTRIBUTE:
+                    xpath.append("[@").append(attribute).append("='").append(value).append("']");
+                    break;
+                case CONTAINS_ATTRIBUTE:
+                    xpath.append("[contains(@").append(attribute).append(",'").append(value).append("')]");
+                    break;
+                case TEXT:
+                    xpath.append("[text()='").append(value).append("']");
+                    break;
+                default:
+                    xpath.append("[contains(text(),'").append(value).append("')]");
+            }
+        }
+
+        /**
+         * Добавляет эквивалентное CSS-условие.
+         *
+         * @return {@code false}, если условие нельзя выразить на CSS (поиск по тексту,
+         * нестандартное имя атрибута или пустая подстрока в {@code contains()}).
+         */
+        boolean appendCss(StringBuilder css, Pattern identifier) {
+            if (type == TEXT || type == CONTAINS_TEXT || !identifier.matcher(attribute).matches()) {
+                return false;
+            }
+            if (type == CONTAINS_ATTRIBUTE && value.isEmpty()) {
+                return false;
+            }
+            css.append('[').append(attribute).append(type == ATTRIBUTE ? "=\"" : "*=\"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    css.append('\\');
+                }
+                css.append(c);
+            }
+            css.append("\"]");
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Predicate)) {
+                return false;
+            }
+            Predicate other = (Predicate) o;
+            return type == other.type && Objects.equals(attribute, other.attribute)
+                    && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, attribute, value);
+        }
+    }
 }
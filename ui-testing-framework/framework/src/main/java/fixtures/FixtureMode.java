@@ -0,0 +1,22 @@
+package fixtures;
+
+/**
+ * Режим работы с записанными страницами (fixtures).
+ * Задаётся свойством {@code -Dframework.fixtures.mode=live|record|replay}.
+ *
+ * @author Хабибуллина Алина
+ */
+public enum FixtureMode {
+    /**
+     * Страницы открываются на реальных сайтах.
+     */
+    LIVE,
+    /**
+     * Страницы открываются на реальных сайтах, а их HTML и ресурсы сохраняются в каталог fixtures.
+     */
+    RECORD,
+    /**
+     * Страницы открываются с локального сервера {@link FixtureServer} в headless-браузере.
+     */
+    REPLAY
+}
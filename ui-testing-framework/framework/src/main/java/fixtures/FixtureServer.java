@@ -0,0 +1,137 @@
+package fixtures;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Класс {@code FixtureServer} — встроенный HTTP-сервер, раздающий записанные страницы и ресурсы
+ * из каталога fixtures.
+ * <p>
+ * Файлы хранятся в виде {@code <каталог>/<хост>/<путь>}; адрес {@code http://127.0.0.1:<порт>/spb.hh.ru/search/vacancy}
+ * соответствует файлу {@code spb.hh.ru/search/vacancy/index.html}. Запросы с путём от корня сайта
+ * (например, {@code /static/app.css}) сопоставляются с хостом страницы по заголовку {@code Referer}.
+ * Отсутствующие файлы сразу возвращают 404, поэтому недостающие ресурсы не замедляют загрузку.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class FixtureServer {
+    private static final Logger logger = LoggerFactory.getLogger(FixtureServer.class);
+
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        CONTENT_TYPES.put("html", "text/html; charset=utf-8");
+        CONTENT_TYPES.put("css", "text/css; charset=utf-8");
+        CONTENT_TYPES.put("js", "application/javascript; charset=utf-8");
+        CONTENT_TYPES.put("json", "application/json; charset=utf-8");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("png", "image/png");
+        CONTENT_TYPES.put("jpg", "image/jpeg");
+        CONTENT_TYPES.put("jpeg", "image/jpeg");
+        CONTENT_TYPES.put("gif", "image/gif");
+        CONTENT_TYPES.put("webp", "image/webp");
+        CONTENT_TYPES.put("ico", "image/x-icon");
+        CONTENT_TYPES.put("woff", "font/woff");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+    }
+
+    private final Path root;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Запускает сервер на локальном интерфейсе.
+     *
+     * @param root каталог с записанными страницами.
+     * @param port порт сервера; {@code 0} — любой свободный порт.
+     * @throws IOException если сервер не удалось запустить.
+     */
+    public FixtureServer(Path root, int port) throws IOException {
+        this.root = root.toAbsolutePath().normalize();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Fixture server started at {} serving {}", baseUrl(), this.root);
+    }
+
+    /**
+     * @return адрес сервера без завершающего слэша, например {@code http://127.0.0.1:54321}.
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Останавливает сервер.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            Path file = find(exchange);
+            if (file == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = Files.readAllBytes(file);
+            exchange.getResponseHeaders().set("Content-Type", contentType(file));
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Path find(HttpExchange exchange) {
+        String path = exchange.getRequestURI().getPath();
+        Path file = Fixtures.fileFor(root, path);
+        if (file != null && Files.isRegularFile(file)) {
+            return file;
+        }
+        String referer = exchange.getRequestHeaders().getFirst("Referer");
+        if (referer == null) {
+            return null;
+        }
+        String refererPath = URI.create(referer).getPath();
+        if (refererPath == null || refererPath.length() < 2) {
+            return null;
+        }
+        int hostEnd = refererPath.indexOf('/', 1);
+        String host = hostEnd < 0 ? refererPath.substring(1) : refererPath.substring(1, hostEnd);
+        file = Fixtures.fileFor(root, "/" + host + path);
+        return file != null && Files.isRegularFile(file) ? file : null;
+    }
+
+    private static String contentType(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String type = dot < 0 ? null : CONTENT_TYPES.get(name.substring(dot + 1).toLowerCase());
+        return type == null ? "application/octet-stream" : type;
+    }
+}
@@ -0,0 +1,173 @@
+package fixtures;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
+import config.FrameworkConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Класс {@code Fixtures} управляет записью и воспроизведением страниц без обращения к реальным сайтам.
+ * <p>
+ * Режим задаётся свойством {@code -Dframework.fixtures.mode}:
+ * <ul>
+ *     <li>{@code live} (по умолчанию) — страницы открываются как обычно;</li>
+ *     <li>{@code record} — после загрузки страницы её HTML и ресурсы с того же хоста сохраняются
+ *     в каталог {@code framework.fixtures.dir} (по умолчанию {@code src/test/resources/fixtures});</li>
+ *     <li>{@code replay} — адрес страницы ({@code BasePage.url}) подменяется адресом локального
+ *     {@link FixtureServer}, а браузер запускается в headless-режиме ({@code config.BrowserConfig}).</li>
+ * </ul>
+ * Параметры запроса при записи и воспроизведении не учитываются: {@code /search/vacancy?text=java}
+ * и {@code /search/vacancy} соответствуют одному файлу.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Fixtures {
+    private static final Logger logger = LoggerFactory.getLogger(Fixtures.class);
+
+    private static final FixtureMode MODE = FixtureMode.valueOf(
+            FrameworkConfig.get().getString("framework.fixtures.mode", "live").toUpperCase(Locale.ROOT));
+    private static final Path ROOT = Paths.get(FrameworkConfig.get().getString("framework.fixtures.dir", "src/test/resources/fixtures"));
+    private static final int PORT = FrameworkConfig.get().getInt("framework.fixtures.port", 0);
+
+    private static final String RESOURCES_SCRIPT =
+            "return performance.getEntriesByType('resource').map(function (e) { return e.name; });";
+
+    private static FixtureServer server;
+
+    private Fixtures() {
+    }
+
+    /**
+     * @return текущий режим работы с fixtures.
+     */
+    public static FixtureMode mode() {
+        return MODE;
+    }
+
+    /**
+     * Возвращает адрес, по которому нужно открыть страницу в текущем режиме.
+     * В режиме {@code replay} запускает локальный сервер при первом обращении.
+     *
+     * @param url адрес страницы на реальном сайте.
+     * @return адрес страницы на локальном сервере в режиме {@code replay}, иначе исходный адрес.
+     */
+    public static String resolve(String url) {
+        if (MODE != FixtureMode.REPLAY) {
+            return url;
+        }
+        URI uri = URI.create(url);
+        if (uri.getHost() == null) {
+            return url;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery() == null ? "" : "?" + uri.getRawQuery();
+        return server().baseUrl() + "/" + uri.getHost() + path + query;
+    }
+
+    /**
+     * В режиме {@code record} сохраняет HTML текущей страницы браузера и загруженные ею ресурсы с того же хоста.
+     * Абсолютные ссылки на хост страницы заменяются ссылками на локальный сервер.
+     *
+     * @param url адрес страницы на реальном сайте.
+     */
+    public static void record(String url) {
+        if (MODE != FixtureMode.RECORD) {
+            return;
+        }
+        URI uri = URI.create(url);
+        String host = uri.getHost();
+        String html = WebDriverRunner.getWebDriver().getPageSource()
+                .replace("https://" + host + "/", "/" + host + "/")
+                .replace("http://" + host + "/", "/" + host + "/")
+                .replace("\"//" + host + "/", "\"/" + host + "/");
+        write(fileFor(ROOT, "/" + host + (uri.getRawPath() == null ? "/" : uri.getRawPath())),
+                html.getBytes(StandardCharsets.UTF_8));
+
+        List<String> resources = Selenide.executeJavaScript(RESOURCES_SCRIPT);
+        if (resources == null) {
+            return;
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        for (String resource : resources) {
+            URI resourceUri = URI.create(resource);
+            if (!host.equals(resourceUri.getHost())) {
+                continue;
+            }
+            try {
+                HttpResponse<byte[]> response = client.send(HttpRequest.newBuilder(resourceUri).GET().build(),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() == 200) {
+                    write(fileFor(ROOT, "/" + host + resourceUri.getRawPath()), response.body());
+                }
+            } catch (IOException e) {
+                logger.info("Failed to record resource {}: {}", resource, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        logger.info("Recorded fixture for {}", url);
+    }
+
+    /**
+     * Возвращает файл fixture для пути вида {@code /<хост>/<путь>}.
+     * Путь без расширения в последнем сегменте считается каталогом со страницей {@code index.html}.
+     *
+     * @param root каталог fixtures.
+     * @param path путь запроса.
+     * @return файл или {@code null}, если путь выходит за пределы каталога.
+     */
+    static Path fileFor(Path root, String path) {
+        String relative = path.startsWith("/") ? path.substring(1) : path;
+        String last = relative.substring(relative.lastIndexOf('/') + 1);
+        if (last.isEmpty() || last.indexOf('.') < 0) {
+            relative = (relative.isEmpty() || relative.endsWith("/") ? relative : relative + "/") + "index.html";
+        }
+        Path base = root.toAbsolutePath().normalize();
+        Path file = base.resolve(relative).normalize();
+        return file.startsWith(base) ? file : null;
+    }
+
+    private static synchronized FixtureServer server() {
+        if (server == null) {
+            try {
+                server = new FixtureServer(ROOT, PORT);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Не удалось запустить сервер fixtures", e);
+            }
+            FixtureServer started = server;
+            Runtime.getRuntime().addShutdownHook(new Thread(started::stop, "fixture-server-shutdown"));
+        }
+        return server;
+    }
+
+    private static void write(Path file, byte[] content) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось сохранить fixture " + file, e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package footprint;
+
+import org.openqa.selenium.Capabilities;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс {@code BrowserProcesses} определяет процессы локального браузера и их память через {@code /proc} (Linux).
+ * <p>
+ * Главный процесс Firefox известен из возможности {@code moz:processID}; главный процесс Chrome и Edge
+ * находится по каталогу профиля ({@code chrome.userDataDir}, {@code msedge.userDataDir}) в командной строке.
+ * Память браузера — сумма RSS главного процесса и всех его потомков (отрисовка вкладок, GPU, сеть);
+ * разделяемые страницы памяти учитываются в каждом процессе, поэтому сумма несколько завышена.
+ *
+ * @author Хабибуллина Алина
+ */
+final class BrowserProcesses {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserProcesses.class);
+
+    private static final Path PROC = Paths.get("/proc");
+
+    private BrowserProcesses() {
+    }
+
+    /**
+     * Находит главный процесс браузера сессии.
+     *
+     * @param capabilities возможности сессии.
+     * @return идентификатор процесса или {@code -1}, если браузер не локальный или {@code /proc} недоступен.
+     */
+    static long rootPid(Capabilities capabilities) {
+        Object firefox = capabilities.getCapability("moz:processID");
+        if (firefox instanceof Number) {
+            return ((Number) firefox).longValue();
+        }
+        String userDataDir = userDataDir(capabilities);
+        if (userDataDir == null || !Files.isDirectory(PROC)) {
+            return -1;
+        }
+        String flag = "--user-data-dir=" + userDataDir;
+        for (long pid : pids()) {
+            String commandLine = read(PROC.resolve(pid + "/cmdline")).replace('\0', ' ');
+            if (commandLine.contains(flag) && !commandLine.contains("--type=")) {
+                return pid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Возвращает суммарный RSS процесса и всех его потомков.
+     *
+     * @param rootPid главный процесс.
+     * @return память в байтах или {@code -1}, если процесс не найден.
+     */
+    static long rssBytes(long rootPid) {
+        if (rootPid <= 0 || !Files.isDirectory(PROC.resolve(String.valueOf(rootPid)))) {
+            return -1;
+        }
+        Map<Long, List<Long>> children = new HashMap<>();
+        for (long pid : pids()) {
+            long parent = parentPid(pid);
+            if (parent > 0) {
+                children.computeIfAbsent(parent, key -> new ArrayList<>()).add(pid);
+            }
+        }
+        long total = 0;
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(rootPid);
+        while (!queue.isEmpty()) {
+            long pid = queue.poll();
+            total += rssKilobytes(pid) * 1024;
+            queue.addAll(children.getOrDefault(pid, List.of()));
+        }
+        return total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String userDataDir(Capabilities capabilities) {
+        for (String name : new String[]{"chrome", "msedge"}) {
+            Object vendor = capabilities.getCapability(name);
+            if (vendor instanceof Map) {
+                Object dir = ((Map<String, Object>) vendor).get("userDataDir");
+                if (dir instanceof String) {
+                    return (String) dir;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<Long> pids() {
+        List<Long> pids = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(PROC, "[0-9]*")) {
+            for (Path entry : entries) {
+                pids.add(Long.parseLong(entry.getFileName().toString()));
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Cannot list processes: {}", e.getMessage());
+        }
+        return pids;
+    }
+
+    private static long parentPid(long pid) {
+        // /proc/<pid>/stat: "pid (comm) state ppid ..."; имя процесса может содержать пробелы и скобки
+        String stat = read(PROC.resolve(pid + "/stat"));
+        int end = stat.lastIndexOf(')');
+        if (end < 0) {
+            return -1;
+        }
+        String[] fields = stat.substring(end + 2).split(" ");
+        return fields.length > 1 ? Long.parseLong(fields[1]) : -1;
+    }
+
+    private static long rssKilobytes(long pid) {
+        for (String line : read(PROC.resolve(pid + "/status")).split("\n")) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.substring(6).replace("kB", "").trim());
+            }
+        }
+        return 0;
+    }
+
+    private static String read(Path file) {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // процесс мог завершиться между чтением списка и чтением файла
+            return "";
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package footprint;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import config.FrameworkConfig;
+import driver.Drivers;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс {@code ResourceTracker} учитывает ресурсы прогона по браузерным сессиям и ограничивает их.
+ * <p>
+ * После каждого теста ({@code DriverPool.release}, в режиме общего браузера — {@code SharedBrowser.release})
+ * замеряются память процессов локального браузера ({@link BrowserProcesses}) и занятая куча JVM, а скриншоты
+ * отчёта учитываются в сессии, в которой они сняты. Память браузера замеряется в фоновом потоке, чтобы обход
+ * {@code /proc} не задерживал тесты; поэтому ограничение памяти браузера проверяется по последнему законченному
+ * замеру, то есть с опозданием на один тест. Ограничения (0 — без ограничения):
+ * <ul>
+ *     <li>{@code framework.resources.browserRssMb} — сессия, браузер которой занял больше, не возвращается
+ *     в пул и перезапускается;</li>
+ *     <li>{@code framework.resources.attachmentsMb} — после такого объёма скриншотов за прогон снимаются
+ *     только скриншоты упавших шагов;</li>
+ *     <li>{@code framework.resources.heapMb} — пока занятая куча JVM больше, скриншоты успешных шагов
+ *     также не снимаются.</li>
+ * </ul>
+ * Данные попадают в итоговый отчёт {@code metrics.MetricsReport}. Учёт отключается
+ * {@code -Dframework.resources.enabled=false}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class ResourceTracker {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceTracker.class);
+
+    private static final long MB = 1024 * 1024;
+    private static final boolean ENABLED = FrameworkConfig.get().getBoolean("framework.resources.enabled", true);
+    private static final long BROWSER_RSS_CAP = FrameworkConfig.get().getLong("framework.resources.browserRssMb", 0) * MB;
+    private static final long ATTACHMENTS_CAP = FrameworkConfig.get().getLong("framework.resources.attachmentsMb", 0) * MB;
+    private static final long HEAP_CAP = FrameworkConfig.get().getLong("framework.resources.heapMb", 0) * MB;
+
+    private static final Map<String, SessionFootprint> SESSIONS = new ConcurrentHashMap<>();
+    private static final LongAdder ATTACHMENT_BYTES = new LongAdder();
+    private static final LongAdder DROPPED_ATTACHMENTS = new LongAdder();
+    private static final LongAccumulator PEAK_HEAP = new LongAccumulator(Math::max, 0);
+    private static volatile boolean heapOverCap;
+
+    private static final ExecutorService SAMPLER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        if (ENABLED) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> logger.info(
+                    "Resources: {} sessions, peak heap {} MB, attachments {} MB, dropped screenshots {}",
+                    SESSIONS.size(), PEAK_HEAP.get() / MB, ATTACHMENT_BYTES.sum() / MB, DROPPED_ATTACHMENTS.sum()),
+                    "resource-stats"));
+        }
+    }
+
+    private ResourceTracker() {
+    }
+
+    /**
+     * Замеряет ресурсы сессии после теста.
+     *
+     * @param driver драйвер сессии.
+     * @return {@code true}, если браузер сессии по последнему замеру превысил ограничение памяти
+     * и сессию нужно перезапустить.
+     */
+    public static boolean sample(WebDriver driver) {
+        if (!ENABLED) {
+            return false;
+        }
+        long heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        PEAK_HEAP.accumulate(heap);
+        boolean over = HEAP_CAP > 0 && heap > HEAP_CAP;
+        if (over != heapOverCap) {
+            heapOverCap = over;
+            logger.info("JVM heap used {} MB is {} the cap, success screenshots are {}",
+                    heap / MB, over ? "over" : "back under", over ? "dropped" : "taken again");
+        }
+
+        SessionFootprint session = footprint(driver);
+        if (session == null) {
+            return false;
+        }
+        session.recordTest();
+        WebDriver raw = Drivers.unwrap(driver);
+        Capabilities capabilities = session.rootPid() == 0 && Configuration.remote == null
+                && raw instanceof HasCapabilities ? ((HasCapabilities) raw).getCapabilities() : null;
+        if (session.rootPid() >= 0 && session.startSampling()) {
+            SAMPLER.execute(() -> measure(session, capabilities));
+        }
+        long rss = session.lastRssBytes();
+        if (BROWSER_RSS_CAP > 0 && rss > BROWSER_RSS_CAP) {
+            session.markRecycled();
+            logger.info("{} session {} uses {} MB, over the {} MB cap", session.browser(), session.sessionId(),
+                    rss / MB, BROWSER_RSS_CAP / MB);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Проверяет, можно ли снять скриншот с учётом ограничений памяти и объёма вложений.
+     * Скриншоты упавших шагов снимаются всегда.
+     *
+     * @param failed {@code true}, если шаг упал.
+     * @return {@code true}, если скриншот можно снять.
+     */
+    public static boolean allowAttachment(boolean failed) {
+        if (!ENABLED || failed) {
+            return true;
+        }
+        if (heapOverCap || ATTACHMENTS_CAP > 0 && ATTACHMENT_BYTES.sum() >= ATTACHMENTS_CAP) {
+            DROPPED_ATTACHMENTS.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Учитывает вложение, снятое в браузере текущего потока.
+     *
+     * @param bytes размер вложения в байтах.
+     */
+    public static void recordAttachment(long bytes) {
+        if (!ENABLED) {
+            return;
+        }
+        ATTACHMENT_BYTES.add(bytes);
+        if (WebDriverRunner.hasWebDriverStarted()) {
+            SessionFootprint session = footprint(WebDriverRunner.getWebDriver());
+            if (session != null) {
+                session.recordAttachment(bytes);
+            }
+        }
+    }
+
+    /**
+     * @return ресурсы всех сессий прогона.
+     */
+    public static List<SessionFootprint> sessions() {
+        return new ArrayList<>(SESSIONS.values());
+    }
+
+    /**
+     * @return наибольшая замеренная занятая куча JVM в байтах.
+     */
+    public static long peakHeapBytes() {
+        return PEAK_HEAP.get();
+    }
+
+    /**
+     * @return объём скриншотов за прогон (до сжатия) в байтах.
+     */
+    public static long attachmentBytes() {
+        return ATTACHMENT_BYTES.sum();
+    }
+
+    /**
+     * @return количество скриншотов, не снятых из-за ограничений.
+     */
+    public static long droppedAttachments() {
+        return DROPPED_ATTACHMENTS.sum();
+    }
+
+    private static void measure(SessionFootprint session, Capabilities capabilities) {
+        try {
+            if (session.rootPid() == 0) {
+                session.rootPid(capabilities == null ? -1 : BrowserProcesses.rootPid(capabilities));
+            }
+            long rss = BrowserProcesses.rssBytes(session.rootPid());
+            if (rss >= 0) {
+                session.recordRss(rss);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Failed to measure {} session {}: {}", session.browser(), session.sessionId(), e.toString());
+        } finally {
+            session.samplingDone();
+        }
+    }
+
+    private static SessionFootprint footprint(WebDriver driver) {
+        WebDriver raw = Drivers.unwrap(driver);
+        if (!(raw instanceof RemoteWebDriver)) {
+            return null;
+        }
+        SessionId id = ((RemoteWebDriver) raw).getSessionId();
+        if (id == null) {
+            return null;
+        }
+        return SESSIONS.computeIfAbsent(id.toString(), key -> new SessionFootprint(key, Configuration.browser));
+    }
+}
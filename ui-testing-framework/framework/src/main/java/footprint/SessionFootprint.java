@@ -0,0 +1,113 @@
+package footprint;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс {@code SessionFootprint} — ресурсы, занятые одной браузерной сессией за время её жизни:
+ * память процессов браузера, количество тестов и объём вложений отчёта, снятых в этой сессии.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class SessionFootprint {
+    private final String sessionId;
+    private final String browser;
+    private final LongAdder tests = new LongAdder();
+    private final LongAdder attachmentBytes = new LongAdder();
+    private final LongAccumulator peakRssBytes = new LongAccumulator(Math::max, -1);
+    private volatile long lastRssBytes = -1;
+    private final AtomicBoolean sampling = new AtomicBoolean();
+    private volatile long rootPid;
+    private volatile boolean recycled;
+
+    SessionFootprint(String sessionId, String browser) {
+        this.sessionId = sessionId;
+        this.browser = browser;
+    }
+
+    /**
+     * @return идентификатор сессии WebDriver.
+     */
+    public String sessionId() {
+        return sessionId;
+    }
+
+    /**
+     * @return имя браузера.
+     */
+    public String browser() {
+        return browser;
+    }
+
+    /**
+     * @return количество тестов, выполненных в сессии.
+     */
+    public long tests() {
+        return tests.sum();
+    }
+
+    /**
+     * @return объём скриншотов, снятых в сессии (до сжатия), в байтах.
+     */
+    public long attachmentBytes() {
+        return attachmentBytes.sum();
+    }
+
+    /**
+     * @return наибольшая замеренная память процессов браузера в байтах или {@code -1}, если не замерялась.
+     */
+    public long peakRssBytes() {
+        return peakRssBytes.get();
+    }
+
+    /**
+     * @return память процессов браузера при последнем замере в байтах или {@code -1}.
+     */
+    public long lastRssBytes() {
+        return lastRssBytes;
+    }
+
+    /**
+     * @return {@code true}, если сессия закрыта досрочно из-за превышения ограничения памяти.
+     */
+    public boolean recycled() {
+        return recycled;
+    }
+
+    long rootPid() {
+        return rootPid;
+    }
+
+    void rootPid(long pid) {
+        this.rootPid = pid;
+    }
+
+    void recordTest() {
+        tests.increment();
+    }
+
+    void recordRss(long rssBytes) {
+        lastRssBytes = rssBytes;
+        peakRssBytes.accumulate(rssBytes);
+    }
+
+    /**
+     * @return {@code true}, если замер памяти начат; {@code false}, если предыдущий замер ещё не закончен.
+     */
+    boolean startSampling() {
+        return sampling.compareAndSet(false, true);
+    }
+
+    void samplingDone() {
+        sampling.set(false);
+    }
+
+    void recordAttachment(long bytes) {
+        attachmentBytes.add(bytes);
+    }
+
+    void markRecycled() {
+        recycled = true;
+    }
+}
@@ -0,0 +1,107 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс {@code Histogram} — потокобезопасная гистограмма длительностей с фиксированными границами корзин.
+ * <p>
+ * Границы подобраны под длительности UI-шагов: от 1 мс до 30 с. Запись значения не выделяет память
+ * и не блокирует другие потоки, поэтому гистограмму можно обновлять на каждом действии с элементом.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Histogram {
+    /**
+     * Верхние границы корзин в миллисекундах; последняя корзина ({@code +Inf}) не входит в массив.
+     */
+    static final long[] BOUNDS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MILLIS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Добавляет измерение.
+     *
+     * @param nanos длительность в наносекундах.
+     */
+    void record(long nanos) {
+        long millis = nanos / 1_000_000;
+        int i = 0;
+        while (i < BOUNDS_MILLIS.length && millis >= BOUNDS_MILLIS[i]) {
+            i++;
+        }
+        buckets[i].increment();
+        count.increment();
+        sumNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return количество измерений.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * @return суммарная длительность в наносекундах.
+     */
+    public long sumNanos() {
+        return sumNanos.sum();
+    }
+
+    /**
+     * @return максимальная длительность в наносекундах.
+     */
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Возвращает количество измерений в каждой корзине (не накопительно).
+     *
+     * @return массив длиной {@code BOUNDS_MILLIS.length + 1}; последний элемент — корзина {@code +Inf}.
+     */
+    public long[] bucketCounts() {
+        long[] result = new long[buckets.length];
+        for (int i = 0; i < buckets.length; i++) {
+            result[i] = buckets[i].sum();
+        }
+        return result;
+    }
+
+    /**
+     * Оценивает перцентиль по верхней границе корзины, в которую он попадает.
+     *
+     * @param quantile квантиль от 0 до 1 (например, {@code 0.95}).
+     * @return оценка в миллисекундах; для корзины {@code +Inf} — максимальное значение.
+     */
+    public double percentileMillis(double quantile) {
+        long[] counts = bucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(BOUNDS_MILLIS[i], maxNanos() / 1_000_000.0);
+            }
+        }
+        return maxNanos() / 1_000_000.0;
+    }
+}
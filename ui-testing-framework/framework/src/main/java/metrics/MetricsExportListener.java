@@ -0,0 +1,37 @@
+package metrics;
+
+import config.FrameworkConfig;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Слушатель JUnit Platform, выгружающий {@link MetricsReport} после завершения всех тестов.
+ * <p>
+ * Регистрируется автоматически через {@code META-INF/services}; каталог отчётов задаётся свойством
+ * {@code -Dframework.metrics.dir} (по умолчанию {@code target/metrics}).
+ *
+ * @author Хабибуллина Алина
+ */
+public class MetricsExportListener implements TestExecutionListener {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsExportListener.class);
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!StepMetrics.isEnabled()) {
+            return;
+        }
+        Path directory = Paths.get(FrameworkConfig.get().getString("framework.metrics.dir", "target/metrics"));
+        try {
+            MetricsReport.write(directory);
+            logger.info("Step metrics written to {}", directory.toAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Failed to write step metrics to {}: {}", directory, e.getMessage());
+        }
+    }
+}
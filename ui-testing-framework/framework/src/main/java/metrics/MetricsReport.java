@@ -0,0 +1,182 @@
+package metrics;
+
+import footprint.ResourceTracker;
+import footprint.SessionFootprint;
+import network.NetworkStats;
+import org.openqa.selenium.json.Json;
+import reporting.ReportingStats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Класс {@code MetricsReport} выгружает накопленные {@link StepMetrics} в машиночитаемом виде:
+ * <ul>
+ *     <li>{@code metrics.json} — шаги, отсортированные по суммарной длительности, с количеством вызовов,
+ *     средним, p50/p95 и максимумом, а также статистика сетевых запросов ({@link NetworkStats})
+ *     и записи отчёта Allure ({@link ReportingStats}), ресурсы браузерных сессий ({@link ResourceTracker});</li>
+ *     <li>{@code metrics.prom} — те же гистограммы в текстовом формате Prometheus
+ *     ({@code ui_step_duration_seconds}).</li>
+ * </ul>
+ *
+ * @author Хабибуллина Алина
+ */
+public final class MetricsReport {
+    private static final String METRIC = "ui_step_duration_seconds";
+
+    private MetricsReport() {
+    }
+
+    /**
+     * Записывает отчёты в каталог.
+     *
+     * @param directory каталог отчётов (создаётся при необходимости).
+     * @throws IOException если файлы не удалось записать.
+     */
+    public static void write(Path directory) throws IOException {
+        List<Map.Entry<StepMetrics.Key, Histogram>> steps = StepMetrics.snapshot();
+        Files.createDirectories(directory);
+        Files.write(directory.resolve("metrics.json"), toJson(steps).getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("metrics.prom"), toPrometheus(steps).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String toJson(List<Map.Entry<StepMetrics.Key, Histogram>> steps) {
+        List<Map<String, Object>> list = new ArrayList<>(steps.size());
+        for (Map.Entry<StepMetrics.Key, Histogram> entry : steps) {
+            StepMetrics.Key key = entry.getKey();
+            Histogram histogram = entry.getValue();
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("page", key.page());
+            step.put("locator", key.locator());
+            step.put("action", key.action());
+            step.put("count", histogram.count());
+            step.put("totalMs", histogram.sumNanos() / 1_000_000.0);
+            step.put("meanMs", histogram.count() == 0 ? 0 : histogram.sumNanos() / 1_000_000.0 / histogram.count());
+            step.put("p50Ms", histogram.percentileMillis(0.5));
+            step.put("p95Ms", histogram.percentileMillis(0.95));
+            step.put("maxMs", histogram.maxNanos() / 1_000_000.0);
+            list.add(step);
+        }
+
+        NetworkStats stats = NetworkStats.total();
+        Map<String, Object> network = new LinkedHashMap<>();
+        network.put("blockedRequests", stats.blockedRequests());
+        network.put("blockedByType", stats.blockedByType());
+        network.put("finishedRequests", stats.finishedRequests());
+        network.put("transferredBytes", stats.transferredBytes());
+
+        ReportingStats reportingStats = ReportingStats.total();
+        Map<String, Object> reporting = new LinkedHashMap<>();
+        reporting.put("blockedMs", reportingStats.blockedNanos() / 1_000_000.0);
+        reporting.put("screenshotCaptureMs", reportingStats.captureNanos() / 1_000_000.0);
+        reporting.put("fullQueueWaits", reportingStats.fullQueueWaits());
+        reporting.put("screenshots", reportingStats.screenshots());
+        reporting.put("screenshotRawBytes", reportingStats.screenshotRawBytes());
+        reporting.put("screenshotWrittenBytes", reportingStats.screenshotWrittenBytes());
+
+        List<Map<String, Object>> sessions = new ArrayList<>();
+        for (SessionFootprint footprint : ResourceTracker.sessions()) {
+            Map<String, Object> session = new LinkedHashMap<>();
+            session.put("sessionId", footprint.sessionId());
+            session.put("browser", footprint.browser());
+            session.put("tests", footprint.tests());
+            session.put("peakRssBytes", footprint.peakRssBytes());
+            session.put("lastRssBytes", footprint.lastRssBytes());
+            session.put("attachmentBytes", footprint.attachmentBytes());
+            session.put("recycled", footprint.recycled());
+            sessions.add(session);
+        }
+        Map<String, Object> resources = new LinkedHashMap<>();
+        resources.put("peakHeapBytes", ResourceTracker.peakHeapBytes());
+        resources.put("attachmentBytes", ResourceTracker.attachmentBytes());
+        resources.put("droppedAttachments", ResourceTracker.droppedAttachments());
+        resources.put("sessions", sessions);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("steps", list);
+        report.put("network", network);
+        report.put("reporting", reporting);
+        report.put("resources", resources);
+        return new Json().toJson(report);
+    }
+
+    static String toPrometheus(List<Map.Entry<StepMetrics.Key, Histogram>> steps) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP ").append(METRIC).append(" Duration of UI framework steps.\n");
+        out.append("# TYPE ").append(METRIC).append(" histogram\n");
+        for (Map.Entry<StepMetrics.Key, Histogram> entry : steps) {
+            StepMetrics.Key key = entry.getKey();
+            Histogram histogram = entry.getValue();
+            String labels = "page=\"" + escape(key.page()) + "\",locator=\"" + escape(key.locator())
+                    + "\",action=\"" + escape(key.action()) + "\"";
+            long[] counts = histogram.bucketCounts();
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                String le = i < Histogram.BOUNDS_MILLIS.length
+                        ? String.format(Locale.ROOT, "%.3f", Histogram.BOUNDS_MILLIS[i] / 1000.0)
+                        : "+Inf";
+                out.append(METRIC).append("_bucket{").append(labels).append(",le=\"").append(le).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            out.append(METRIC).append("_sum{").append(labels).append("} ")
+                    .append(String.format(Locale.ROOT, "%.6f", histogram.sumNanos() / 1e9)).append('\n');
+            out.append(METRIC).append("_count{").append(labels).append("} ").append(cumulative).append('\n');
+        }
+
+        NetworkStats stats = NetworkStats.total();
+        out.append("# HELP ui_network_blocked_requests_total Requests blocked by the network policy.\n");
+        out.append("# TYPE ui_network_blocked_requests_total counter\n");
+        for (Map.Entry<String, Long> entry : stats.blockedByType().entrySet()) {
+            out.append("ui_network_blocked_requests_total{type=\"").append(escape(entry.getKey())).append("\"} ")
+                    .append(entry.getValue()).append('\n');
+        }
+        out.append("# HELP ui_network_transferred_bytes_total Bytes transferred by loaded requests.\n");
+        out.append("# TYPE ui_network_transferred_bytes_total counter\n");
+        out.append("ui_network_transferred_bytes_total ").append(stats.transferredBytes()).append('\n');
+
+        ReportingStats reporting = ReportingStats.total();
+        out.append("# HELP ui_reporting_blocked_seconds_total Time test threads spent on Allure reporting.\n");
+        out.append("# TYPE ui_reporting_blocked_seconds_total counter\n");
+        out.append("ui_reporting_blocked_seconds_total ")
+                .append(String.format(Locale.ROOT, "%.6f", reporting.blockedNanos() / 1e9)).append('\n');
+        out.append("# HELP ui_reporting_screenshots_total Screenshots attached to the Allure report.\n");
+        out.append("# TYPE ui_reporting_screenshots_total counter\n");
+        out.append("ui_reporting_screenshots_total ").append(reporting.screenshots()).append('\n');
+
+        out.append("# HELP ui_session_browser_rss_peak_bytes Peak memory of browser processes per session.\n");
+        out.append("# TYPE ui_session_browser_rss_peak_bytes gauge\n");
+        long recycled = 0;
+        for (SessionFootprint footprint : ResourceTracker.sessions()) {
+            if (footprint.recycled()) {
+                recycled++;
+            }
+            if (footprint.peakRssBytes() >= 0) {
+                out.append("ui_session_browser_rss_peak_bytes{session=\"").append(escape(footprint.sessionId()))
+                        .append("\",browser=\"").append(escape(footprint.browser())).append("\"} ")
+                        .append(footprint.peakRssBytes()).append('\n');
+            }
+        }
+        out.append("# HELP ui_sessions_recycled_total Sessions restarted for exceeding the browser memory cap.\n");
+        out.append("# TYPE ui_sessions_recycled_total counter\n");
+        out.append("ui_sessions_recycled_total ").append(recycled).append('\n');
+        out.append("# HELP ui_jvm_heap_peak_bytes Peak JVM heap used, sampled after each test.\n");
+        out.append("# TYPE ui_jvm_heap_peak_bytes gauge\n");
+        out.append("ui_jvm_heap_peak_bytes ").append(ResourceTracker.peakHeapBytes()).append('\n');
+        out.append("# HELP ui_attachments_dropped_total Screenshots skipped because of resource caps.\n");
+        out.append("# TYPE ui_attachments_dropped_total counter\n");
+        out.append("ui_attachments_dropped_total ").append(ResourceTracker.droppedAttachments()).append('\n');
+        return out.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,208 @@
+package metrics;
+
+import config.FrameworkConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Класс {@code StepMetrics} измеряет длительность шагов фреймворка (ожидания, клики, ввод, открытие
+ * и загрузка страниц) и собирает их в гистограммы по ключу «страница — локатор — действие».
+ * <p>
+ * Шаги компонентов относятся к странице, которой принадлежит компонент ({@code Component}); шаги без страницы
+ * и шаги уровня страницы — к странице, открытой в текущем потоке последней ({@link #enterPage(Class)} вызывается
+ * из {@code BasePage.openPage()} и {@code BasePage.navigateTo(...)}). Результаты выгружаются в конце прогона
+ * {@link MetricsReport} в {@code target/metrics}. Измерения отключаются свойством
+ * {@code -Dframework.metrics.enabled=false}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class StepMetrics {
+    private static final boolean ENABLED =
+            FrameworkConfig.get().getBoolean("framework.metrics.enabled", true);
+
+    private static final Map<Key, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> PAGE = ThreadLocal.withInitial(() -> "-");
+
+    private StepMetrics() {
+    }
+
+    /**
+     * @return {@code true}, если измерения включены.
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Запоминает страницу, к которой относятся последующие шаги текущего потока без собственной страницы.
+     *
+     * @param page класс страницы.
+     */
+    public static void enterPage(Class<?> page) {
+        PAGE.set(page.getSimpleName());
+    }
+
+    /**
+     * Выполняет шаг и записывает его длительность, в том числе если шаг завершился исключением.
+     *
+     * @param action  имя действия (например, {@code "click"}).
+     * @param locator локатор элемента или {@code null} для шагов уровня страницы.
+     * @param step    шаг.
+     */
+    public static void time(String action, String locator, Runnable step) {
+        time(null, action, locator, step);
+    }
+
+    /**
+     * Выполняет шаг элемента заданной страницы и записывает его длительность.
+     *
+     * @param page    класс страницы, которой принадлежит элемент, или {@code null} — страница потока.
+     * @param action  имя действия.
+     * @param locator локатор элемента или {@code null}.
+     * @param step    шаг.
+     */
+    public static void time(Class<?> page, String action, String locator, Runnable step) {
+        if (!ENABLED) {
+            step.run();
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            record(page, action, locator, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Выполняет шаг, возвращающий значение, и записывает его длительность.
+     *
+     * @param action  имя действия (например, {@code "getValue"}).
+     * @param locator локатор элемента или {@code null} для шагов уровня страницы.
+     * @param step    шаг.
+     * @param <T>     тип результата.
+     * @return результат шага.
+     */
+    public static <T> T time(String action, String locator, Supplier<T> step) {
+        return time(null, action, locator, step);
+    }
+
+    /**
+     * Выполняет шаг элемента заданной страницы, возвращающий значение, и записывает его длительность.
+     *
+     * @param page    класс страницы, которой принадлежит элемент, или {@code null} — страница потока.
+     * @param action  имя действия.
+     * @param locator локатор элемента или {@code null}.
+     * @param step    шаг.
+     * @param <T>     тип результата.
+     * @return результат шага.
+     */
+    public static <T> T time(Class<?> page, String action, String locator, Supplier<T> step) {
+        if (!ENABLED) {
+            return step.get();
+        }
+        long started = System.nanoTime();
+        try {
+            return step.get();
+        } finally {
+            record(page, action, locator, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Записывает длительность уже выполненного шага.
+     *
+     * @param action  имя действия.
+     * @param locator локатор элемента или {@code null}.
+     * @param nanos   длительность в наносекундах.
+     */
+    public static void record(String action, String locator, long nanos) {
+        record(null, action, locator, nanos);
+    }
+
+    private static void record(Class<?> page, String action, String locator, long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        HISTOGRAMS.computeIfAbsent(new Key(page == null ? PAGE.get() : page.getSimpleName(),
+                locator == null ? "" : locator, action), k -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * Возвращает накопленные гистограммы, отсортированные по суммарной длительности (самые долгие — первыми).
+     *
+     * @return список пар «ключ — гистограмма».
+     */
+    public static List<Map.Entry<Key, Histogram>> snapshot() {
+        List<Map.Entry<Key, Histogram>> result = new ArrayList<>(HISTOGRAMS.entrySet());
+        result.sort(Collections.reverseOrder(Map.Entry.comparingByValue(
+                (a, b) -> Long.compare(a.sumNanos(), b.sumNanos()))));
+        return result;
+    }
+
+    /**
+     * Удаляет все накопленные измерения.
+     */
+    public static void clear() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Ключ гистограммы: страница, локатор элемента и действие.
+     */
+    public static final class Key {
+        private final String page;
+        private final String locator;
+        private final String action;
+
+        Key(String page, String locator, String action) {
+            this.page = page;
+            this.locator = locator;
+            this.action = action;
+        }
+
+        /**
+         * @return простое имя класса страницы или {@code "-"}, если шаг не относится ни к одной странице.
+         */
+        public String page() {
+            return page;
+        }
+
+        /**
+         * @return локатор элемента или пустая строка для шагов уровня страницы.
+         */
+        public String locator() {
+            return locator;
+        }
+
+        /**
+         * @return имя действия.
+         */
+        public String action() {
+            return action;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return page.equals(other.page) && locator.equals(other.locator) && action.equals(other.action);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(page, locator, action);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package network;
+
+import com.codeborne.selenide.WebDriverRunner;
+import driver.DevToolsSessions;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс {@code NetworkBlocker} применяет {@link NetworkPolicy} к браузеру текущего потока через DevTools.
+ * <p>
+ * Работает в браузерах семейства Chromium (Chrome, Edge): для вкладки сессии один раз подключаются DevTools
+ * ({@link DevToolsSessions}), включается домен {@code Network} и подписка на события загрузки, по которым
+ * заполняется {@link NetworkStats}. Повторная отправка шаблонов выполняется, только если политика изменилась.
+ * В остальных браузерах политика игнорируется.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class NetworkBlocker {
+    private static final Logger logger = LoggerFactory.getLogger(NetworkBlocker.class);
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> logger.info("Network: {}", NetworkStats.total()), "network-stats"));
+    }
+
+    private final DevTools devTools;
+    private List<String> applied = Collections.emptyList();
+
+    private NetworkBlocker(DevTools devTools) {
+        this.devTools = devTools;
+        NetworkStats stats = NetworkStats.total();
+        devTools.send(new Command<>("Network.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    if (event.get("blockedReason") != null) {
+                        stats.recordBlocked((String) event.get("type"));
+                    }
+                });
+        devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    Object bytes = event.get("encodedDataLength");
+                    stats.recordFinished(bytes instanceof Number ? ((Number) bytes).longValue() : 0);
+                });
+    }
+
+    /**
+     * Применяет политику к браузеру текущего потока, запуская его при необходимости.
+     * Вызывается {@code BasePage.openPage()} до перехода на страницу.
+     *
+     * @param policy политика блокировки.
+     */
+    public static void apply(NetworkPolicy policy) {
+        if (policy.isEmpty() && !WebDriverRunner.hasWebDriverStarted()) {
+            return;
+        }
+        WebDriver driver = WebDriverRunner.getAndCheckWebDriver();
+        NetworkBlocker blocker = policy.isEmpty()
+                ? DevToolsSessions.existing(driver, NetworkBlocker.class)
+                : DevToolsSessions.handler(driver, NetworkBlocker.class, NetworkBlocker::new, "network blocking");
+        if (blocker != null) {
+            blocker.update(policy.patterns());
+        }
+    }
+
+    private synchronized void update(List<String> patterns) {
+        if (patterns.equals(applied)) {
+            return;
+        }
+        try {
+            devTools.send(new Command<>("Network.setBlockedURLs", Collections.singletonMap("urls", patterns)));
+            applied = patterns;
+            logger.debug("Blocking {} URL patterns", patterns.size());
+        } catch (WebDriverException e) {
+            logger.info("Failed to apply network policy: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package network;
+
+import config.FrameworkConfig;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Класс {@code NetworkPolicy} — неизменяемый набор шаблонов адресов, загрузка которых блокируется браузером.
+ * <p>
+ * Шаблоны имеют формат DevTools: символ {@code *} соответствует любой последовательности символов
+ * (например, {@code *google-analytics.com*}). Политика по умолчанию ({@link #defaults()}) блокирует
+ * аналитику, рекламу, изображения, шрифты и медиа. Страницы, которым нужны какие-то из этих ресурсов,
+ * переопределяют {@code BasePage.networkPolicy()}:
+ * <pre>{@code
+ * @Override
+ * protected NetworkPolicy networkPolicy() {
+ *     return NetworkPolicy.defaults().allow(ResourceType.IMAGE);
+ * }
+ * }</pre>
+ * Блокировку можно отключить свойством {@code -Dframework.network.blocking=false}, а дополнительные
+ * шаблоны перечислить через запятую в {@code -Dframework.network.blockedUrls}.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class NetworkPolicy {
+    private static final boolean ENABLED =
+            FrameworkConfig.get().getBoolean("framework.network.blocking", true);
+
+    /**
+     * Адреса счётчиков, аналитики и рекламных сетей, на которые тесты никогда не проверяют.
+     */
+    private static final List<String> TRACKERS = Collections.unmodifiableList(Arrays.asList(
+            "*google-analytics.com*",
+            "*googletagmanager.com*",
+            "*doubleclick.net*",
+            "*googlesyndication.com*",
+            "*mc.yandex.ru*",
+            "*an.yandex.ru*",
+            "*yandex.ru/ads*",
+            "*adfox.ru*",
+            "*top-fwz1.mail.ru*",
+            "*vk.com/rtrg*",
+            "*facebook.net*",
+            "*hotjar.com*"));
+
+    private static final NetworkPolicy NONE = new NetworkPolicy(Collections.emptySet());
+    private static final NetworkPolicy DEFAULTS = createDefaults();
+
+    private final Set<String> patterns;
+
+    private NetworkPolicy(Set<String> patterns) {
+        this.patterns = patterns;
+    }
+
+    /**
+     * Возвращает политику, не блокирующую ничего.
+     *
+     * @return пустая политика.
+     */
+    public static NetworkPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Возвращает политику по умолчанию: аналитика, реклама, изображения, шрифты и медиа,
+     * а также шаблоны из {@code framework.network.blockedUrls}.
+     * Если блокировка отключена свойством {@code framework.network.blocking=false}, возвращает {@link #none()}.
+     *
+     * @return политика по умолчанию.
+     */
+    public static NetworkPolicy defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Возвращает политику, дополнительно блокирующую адреса по указанным шаблонам.
+     *
+     * @param urlPatterns шаблоны адресов.
+     * @return новая политика.
+     */
+    public NetworkPolicy block(String... urlPatterns) {
+        if (!ENABLED) {
+            return this;
+        }
+        Set<String> result = new LinkedHashSet<>(patterns);
+        result.addAll(Arrays.asList(urlPatterns));
+        return new NetworkPolicy(Collections.unmodifiableSet(result));
+    }
+
+    /**
+     * Возвращает политику, дополнительно блокирующую ресурсы указанных типов.
+     *
+     * @param types типы ресурсов.
+     * @return новая политика.
+     */
+    public NetworkPolicy block(ResourceType... types) {
+        List<String> result = new ArrayList<>();
+        for (ResourceType type : types) {
+            result.addAll(type.patterns());
+        }
+        return block(result.toArray(new String[0]));
+    }
+
+    /**
+     * Возвращает политику, в которой указанные шаблоны больше не блокируются.
+     * Шаблон должен в точности совпадать с ранее добавленным.
+     *
+     * @param urlPatterns шаблоны адресов.
+     * @return новая политика.
+     */
+    public NetworkPolicy allow(String... urlPatterns) {
+        Set<String> result = new LinkedHashSet<>(patterns);
+        result.removeAll(Arrays.asList(urlPatterns));
+        return new NetworkPolicy(Collections.unmodifiableSet(result));
+    }
+
+    /**
+     * Возвращает политику, в которой ресурсы указанных типов больше не блокируются.
+     *
+     * @param types типы ресурсов.
+     * @return новая политика.
+     */
+    public NetworkPolicy allow(ResourceType... types) {
+        List<String> result = new ArrayList<>();
+        for (ResourceType type : types) {
+            result.addAll(type.patterns());
+        }
+        return allow(result.toArray(new String[0]));
+    }
+
+    /**
+     * @return шаблоны блокируемых адресов в порядке добавления.
+     */
+    public List<String> patterns() {
+        return new ArrayList<>(patterns);
+    }
+
+    /**
+     * @return {@code true}, если политика ничего не блокирует.
+     */
+    public boolean isEmpty() {
+        return patterns.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "NetworkPolicy" + patterns;
+    }
+
+    private static NetworkPolicy createDefaults() {
+        if (!ENABLED) {
+            return NONE;
+        }
+        List<String> extra = new ArrayList<>();
+        for (String pattern : FrameworkConfig.get().getString("framework.network.blockedUrls", "").split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                extra.add(pattern.trim());
+            }
+        }
+        return NONE.block(TRACKERS.toArray(new String[0]))
+                .block(ResourceType.IMAGE, ResourceType.FONT, ResourceType.MEDIA)
+                .block(extra.toArray(new String[0]));
+    }
+}
@@ -0,0 +1,82 @@
+package network;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс {@code NetworkStats} накапливает статистику сетевых запросов за прогон тестов:
+ * количество заблокированных запросов по типам ресурсов, а также количество и объём
+ * (в байтах, переданных по сети) выполненных запросов.
+ * <p>
+ * Заблокированные запросы не доходят до сети, поэтому их объём неизвестен; экономию трафика
+ * можно оценить, сравнив {@link #transferredBytes()} с прогоном при {@code -Dframework.network.blocking=false}.
+ * Итоговая статистика выводится в лог при завершении JVM.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class NetworkStats {
+    private static final NetworkStats TOTAL = new NetworkStats();
+
+    private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder finished = new LongAdder();
+    private final LongAdder transferred = new LongAdder();
+
+    private NetworkStats() {
+    }
+
+    /**
+     * @return статистика всех браузерных сессий за прогон.
+     */
+    public static NetworkStats total() {
+        return TOTAL;
+    }
+
+    void recordBlocked(String type) {
+        blocked.increment();
+        blockedByType.computeIfAbsent(type == null ? "Other" : type, t -> new LongAdder()).increment();
+    }
+
+    void recordFinished(long encodedBytes) {
+        finished.increment();
+        transferred.add(encodedBytes);
+    }
+
+    /**
+     * @return количество заблокированных запросов.
+     */
+    public long blockedRequests() {
+        return blocked.sum();
+    }
+
+    /**
+     * @return количество заблокированных запросов по типам ресурсов DevTools ({@code Image}, {@code Script}, ...).
+     */
+    public Map<String, Long> blockedByType() {
+        Map<String, Long> result = new TreeMap<>();
+        blockedByType.forEach((type, count) -> result.put(type, count.sum()));
+        return result;
+    }
+
+    /**
+     * @return количество успешно загруженных запросов.
+     */
+    public long finishedRequests() {
+        return finished.sum();
+    }
+
+    /**
+     * @return объём данных, переданных по сети успешно загруженными запросами, в байтах.
+     */
+    public long transferredBytes() {
+        return transferred.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "blocked " + blockedRequests() + " requests " + blockedByType()
+                + ", loaded " + finishedRequests() + " requests (" + transferredBytes() / 1024 + " KB)";
+    }
+}
@@ -0,0 +1,59 @@
+package network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Тип ресурса страницы, загрузку которого можно заблокировать через {@link NetworkPolicy}.
+ * <p>
+ * Блокировка выполняется по шаблонам адресов DevTools ({@code Network.setBlockedURLs}),
+ * поэтому каждый тип задаётся набором расширений файлов.
+ *
+ * @author Хабибуллина Алина
+ */
+public enum ResourceType {
+    /**
+     * Изображения.
+     */
+    IMAGE("Image", "png", "jpg", "jpeg", "gif", "webp", "avif", "ico"),
+    /**
+     * Веб-шрифты.
+     */
+    FONT("Font", "woff", "woff2", "ttf", "otf", "eot"),
+    /**
+     * Видео и аудио.
+     */
+    MEDIA("Media", "mp4", "webm", "ogg", "mp3", "m3u8"),
+    /**
+     * Таблицы стилей. По умолчанию не блокируются: без стилей проверки видимости элементов ненадёжны.
+     */
+    STYLESHEET("Stylesheet", "css");
+
+    private final String devToolsName;
+    private final List<String> patterns;
+
+    ResourceType(String devToolsName, String... extensions) {
+        this.devToolsName = devToolsName;
+        List<String> list = new ArrayList<>(extensions.length * 2);
+        for (String extension : extensions) {
+            list.add("*." + extension);
+            list.add("*." + extension + "?*");
+        }
+        this.patterns = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @return имя типа ресурса в событиях DevTools (например, {@code "Image"}).
+     */
+    public String devToolsName() {
+        return devToolsName;
+    }
+
+    /**
+     * @return шаблоны адресов ресурсов этого типа.
+     */
+    public List<String> patterns() {
+        return patterns;
+    }
+}
@@ -0,0 +1,117 @@
+package overlay;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Класс {@code Overlay} описывает всплывающий элемент, который может перекрыть страницу: модальное окно,
+ * баннер cookies, выбор региона.
+ * <p>
+ * Страница перечисляет известные ей всплывающие элементы в {@code BasePage.overlays()}, а {@link Overlays}
+ * следит за их появлением в браузере и закрывает их ({@link #dismiss(String, String)}) или только сообщает
+ * о них ({@link #report(String, String)}):
+ * <pre>{@code
+ * @Override
+ * protected List<Overlay> overlays() {
+ *     return Arrays.asList(
+ *             Overlay.dismiss("cookies", "//div[@class='cookie-banner']", "//button[text()='Принять']"),
+ *             Overlay.report("региональный сайт", "//div[@data-qa='region-clarification']"));
+ * }
+ * }</pre>
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Overlay {
+    private final String name;
+    private final String overlayXPath;
+    private final String closeXPath;
+
+    private Overlay(String name, String overlayXPath, String closeXPath) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.overlayXPath = Objects.requireNonNull(overlayXPath, "overlayXPath");
+        this.closeXPath = closeXPath;
+    }
+
+    /**
+     * Описывает всплывающий элемент, который закрывается щелчком по видимому элементу.
+     *
+     * @param name       имя для журнала.
+     * @param closeXPath XPath кнопки закрытия; её появление означает появление всплывающего элемента.
+     * @return описание.
+     */
+    public static Overlay dismiss(String name, String closeXPath) {
+        return new Overlay(name, closeXPath, closeXPath);
+    }
+
+    /**
+     * Описывает всплывающий элемент, который закрывается щелчком по отдельной кнопке.
+     *
+     * @param name         имя для журнала.
+     * @param overlayXPath XPath самого всплывающего элемента.
+     * @param closeXPath   XPath кнопки закрытия.
+     * @return описание.
+     */
+    public static Overlay dismiss(String name, String overlayXPath, String closeXPath) {
+        return new Overlay(name, overlayXPath, closeXPath);
+    }
+
+    /**
+     * Описывает всплывающий элемент, о появлении которого нужно только сообщить (тест закроет его сам).
+     *
+     * @param name         имя для журнала.
+     * @param overlayXPath XPath всплывающего элемента.
+     * @return описание.
+     */
+    public static Overlay report(String name, String overlayXPath) {
+        return new Overlay(name, overlayXPath, null);
+    }
+
+    /**
+     * @return имя всплывающего элемента.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * @return {@code true}, если элемент закрывается автоматически.
+     */
+    public boolean isDismissed() {
+        return closeXPath != null;
+    }
+
+    /**
+     * @return описание для скрипта наблюдателя.
+     */
+    Map<String, Object> toScriptConfig() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("name", name);
+        config.put("detect", overlayXPath);
+        config.put("close", closeXPath);
+        return config;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Overlay)) {
+            return false;
+        }
+        Overlay other = (Overlay) o;
+        return name.equals(other.name) && overlayXPath.equals(other.overlayXPath)
+                && Objects.equals(closeXPath, other.closeXPath);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, overlayXPath, closeXPath);
+    }
+
+    @Override
+    public String toString() {
+        return "Overlay[" + name + (isDismissed() ? ", dismiss" : ", report") + "]";
+    }
+}
@@ -0,0 +1,205 @@
+package overlay;
+
+import com.codeborne.selenide.WebDriverRunner;
+import driver.DevToolsSessions;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс {@code Overlays} закрывает известные всплывающие элементы ({@link Overlay}) прямо в браузере.
+ * <p>
+ * В каждый документ вкладки внедряется {@code MutationObserver} ({@code Page.addScriptToEvaluateOnNewDocument}),
+ * который после изменений DOM проверяет зарегистрированные всплывающие элементы, щёлкает кнопку закрытия
+ * появившихся и сообщает о них через DevTools-привязку {@code Runtime.addBinding}. Тест не тратит времени
+ * на проверки всплывающих элементов, которые обычно не появляются, а закрытые и замеченные элементы
+ * попадают в журнал и счётчики ({@link #seen(String)}).
+ * <p>
+ * Элементы регистрируются для сессии браузера и накапливаются в течение теста: {@code BasePage.openPage()} и
+ * {@code BasePage.navigateTo(...)} добавляют элементы страницы, с которой начинается переход. Когда браузер
+ * возвращается в пул, {@link #reset(WebDriver)} удаляет внедрённый скрипт, зарегистрированные элементы
+ * и счётчики, поэтому следующий тест в том же браузере начинает без элементов предыдущих тестов. Работает
+ * в браузерах семейства Chromium; в остальных всплывающие элементы не обрабатываются.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Overlays {
+    private static final Logger logger = LoggerFactory.getLogger(Overlays.class);
+
+    private static final String BINDING = "__frameworkOverlay";
+    private static final String WATCHER_SCRIPT =
+            "(function (overlays) {"
+                    + "  var state = window.__frameworkOverlays;"
+                    + "  if (state) { state.config = overlays; state.schedule(); return; }"
+                    + "  state = window.__frameworkOverlays = {config: overlays, handled: {}, scheduled: false};"
+                    + "  var find = function (xp) {"
+                    + "    return document.evaluate(xp, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null)"
+                    + "        .singleNodeValue;"
+                    + "  };"
+                    + "  var visible = function (el) {"
+                    + "    return !!(el && (el.offsetWidth || el.offsetHeight || el.getClientRects().length));"
+                    + "  };"
+                    + "  var report = function (name, action) {"
+                    + "    try { window." + BINDING + "(JSON.stringify({name: name, action: action, url: location.href})); }"
+                    + "    catch (e) {}"
+                    + "  };"
+                    + "  var check = function () {"
+                    + "    state.scheduled = false;"
+                    + "    state.config.forEach(function (o) {"
+                    + "      var el = find(o.detect);"
+                    + "      if (!visible(el)) { delete state.handled[o.name]; return; }"
+                    + "      if (state.handled[o.name]) { return; }"
+                    + "      state.handled[o.name] = true;"
+                    + "      if (o.close) {"
+                    + "        var close = find(o.close);"
+                    + "        if (visible(close)) { close.click(); report(o.name, 'dismissed'); return; }"
+                    + "        delete state.handled[o.name];"
+                    + "        return;"
+                    + "      }"
+                    + "      report(o.name, 'reported');"
+                    + "    });"
+                    + "  };"
+                    + "  state.schedule = function () {"
+                    + "    if (!state.scheduled) { state.scheduled = true; setTimeout(check, 50); }"
+                    + "  };"
+                    + "  new MutationObserver(state.schedule).observe(document,"
+                    + "      {childList: true, subtree: true, attributes: true, attributeFilter: ['class', 'style', 'hidden']});"
+                    + "  state.schedule();"
+                    + "})(__OVERLAYS__);";
+
+    private static final Map<String, LongAdder> TOTAL = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            if (!TOTAL.isEmpty()) {
+                logger.info("Overlays handled: {}", TOTAL);
+            }
+        }, "overlay-stats"));
+    }
+
+    private final DevTools devTools;
+    private final Set<Overlay> registered = new LinkedHashSet<>();
+    private final Map<String, LongAdder> seen = new ConcurrentHashMap<>();
+    private String scriptId;
+
+    private Overlays(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.send(new Command<>("Runtime.enable", Collections.emptyMap()));
+        devTools.addListener(new Event<Map<String, Object>>("Runtime.bindingCalled", input -> input.read(Json.MAP_TYPE)),
+                event -> {
+                    if (BINDING.equals(event.get("name"))) {
+                        handled((String) event.get("payload"));
+                    }
+                });
+        devTools.send(new Command<>("Runtime.addBinding", Collections.singletonMap("name", BINDING)));
+    }
+
+    /**
+     * Регистрирует всплывающие элементы для браузера текущего потока. Уже зарегистрированные элементы
+     * не требуют обращения к браузеру.
+     *
+     * @param overlays всплывающие элементы страницы.
+     */
+    public static void apply(List<Overlay> overlays) {
+        if (overlays.isEmpty()) {
+            return;
+        }
+        Overlays watcher = DevToolsSessions.handler(WebDriverRunner.getAndCheckWebDriver(), Overlays.class,
+                Overlays::new, "overlay handling");
+        if (watcher != null) {
+            watcher.register(overlays);
+        }
+    }
+
+    /**
+     * Возвращает, сколько раз всплывающий элемент был закрыт или замечен в браузере текущего потока.
+     *
+     * @param name имя всплывающего элемента.
+     * @return количество срабатываний.
+     */
+    public static long seen(String name) {
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            return 0;
+        }
+        Overlays watcher = DevToolsSessions.existing(WebDriverRunner.getWebDriver(), Overlays.class);
+        LongAdder count = watcher == null ? null : watcher.seen.get(name);
+        return count == null ? 0 : count.sum();
+    }
+
+    /**
+     * Сбрасывает всплывающие элементы, зарегистрированные для браузера: удаляет скрипт, внедряемый в новые
+     * документы, и забывает зарегистрированные элементы и счётчики. Подключение к DevTools сохраняется.
+     * Сбрасывается обработчик текущей вкладки драйвера.
+     *
+     * @param driver браузер, который возвращается в пул.
+     */
+    public static void reset(WebDriver driver) {
+        Overlays watcher = DevToolsSessions.existing(driver, Overlays.class);
+        if (watcher != null) {
+            watcher.clear();
+        }
+    }
+
+    private synchronized void clear() {
+        registered.clear();
+        seen.clear();
+        if (scriptId == null) {
+            return;
+        }
+        try {
+            devTools.send(new Command<>("Page.removeScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("identifier", scriptId)));
+        } catch (WebDriverException e) {
+            logger.debug("Failed to remove overlay watcher: {}", e.getMessage());
+        } finally {
+            scriptId = null;
+        }
+    }
+
+    private synchronized void register(List<Overlay> overlays) {
+        if (registered.containsAll(overlays)) {
+            return;
+        }
+        registered.addAll(overlays);
+        List<Map<String, Object>> config = new ArrayList<>(registered.size());
+        for (Overlay overlay : registered) {
+            config.add(overlay.toScriptConfig());
+        }
+        String source = WATCHER_SCRIPT.replace("__OVERLAYS__", new Json().toJson(config));
+        try {
+            if (scriptId != null) {
+                devTools.send(new Command<>("Page.removeScriptToEvaluateOnNewDocument",
+                        Collections.singletonMap("identifier", scriptId)));
+            }
+            Map<String, Object> added = devTools.send(new Command<>("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", source), input -> input.read(Json.MAP_TYPE)));
+            scriptId = (String) added.get("identifier");
+            devTools.send(new Command<>("Runtime.evaluate", Collections.singletonMap("expression", source)));
+            logger.debug("Watching {} overlays", registered.size());
+        } catch (WebDriverException e) {
+            logger.info("Failed to install overlay watcher: {}", e.getMessage());
+        }
+    }
+
+    private void handled(String payload) {
+        Map<String, Object> event = new Json().toType(payload, Json.MAP_TYPE);
+        String name = (String) event.get("name");
+        seen.computeIfAbsent(name, key -> new LongAdder()).increment();
+        TOTAL.computeIfAbsent(name, key -> new LongAdder()).increment();
+        logger.info("Overlay '{}' {} on {}", name, event.get("action"), event.get("url"));
+    }
+}
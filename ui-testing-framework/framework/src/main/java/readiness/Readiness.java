@@ -0,0 +1,321 @@
+package readiness;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс {@code Readiness} содержит готовые условия готовности страницы и выполняет их ожидание в браузере.
+ * <p>
+ * Все условия вычисляются одним асинхронным скриптом ({@code executeAsyncScript}): браузер сам сообщает
+ * о готовности, как только все условия выполнены, поэтому ожидание заканчивается сразу после готовности страницы,
+ * а не на следующем такте опроса. Когда ожидание закончилось, в том числе по истечении времени, наблюдатели
+ * и обработчики событий условий отключаются, а увеличенное для долгого ожидания время выполнения скриптов
+ * WebDriver возвращается к прежнему значению.
+ * <pre>{@code
+ * Readiness.await(Duration.ofSeconds(10),
+ *         Readiness.documentComplete(), Readiness.networkIdle(Duration.ofMillis(300)));
+ * }</pre>
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Readiness {
+    private static final Logger logger = LoggerFactory.getLogger(Readiness.class);
+
+    private static final String AWAIT_SCRIPT =
+            "var callback = arguments[arguments.length - 1], timeout = arguments[0], names = arguments[1];"
+                    + "var conditions = [__CONDITIONS__], done = [], cleanups = [], pending = conditions.length,"
+                    + "    finished = false;"
+                    + "var finish = function (ready) {"
+                    + "  if (finished) { return; } finished = true; clearTimeout(timer);"
+                    + "  cleanups.forEach(function (cleanup) { try { cleanup(); } catch (e) {} });"
+                    + "  callback({ ready: ready, pending: names.filter(function (n, i) { return !done[i]; }) });"
+                    + "};"
+                    + "var timer = setTimeout(function () { finish(false); }, timeout);"
+                    + "if (pending === 0) { finish(true); }"
+                    + "conditions.forEach(function (condition, i) {"
+                    + "  try {"
+                    + "    var cleanup = condition(function () {"
+                    + "      if (!done[i]) { done[i] = true; if (--pending === 0) { finish(true); } }"
+                    + "    });"
+                    + "    if (typeof cleanup === 'function') { if (finished) { cleanup(); } else { cleanups.push(cleanup); } }"
+                    + "  } catch (e) { names[i] = names[i] + ' (' + e + ')'; }"
+                    + "});";
+
+    private Readiness() {
+    }
+
+    /**
+     * Условие: HTML документа разобран ({@code document.readyState} не равен {@code 'loading'}),
+     * при этом картинки, стили и сторонние скрипты могут ещё загружаться.
+     *
+     * @return условие готовности.
+     */
+    public static ReadinessCondition domContentLoaded() {
+        return custom("DOM content loaded",
+                "function (done) {"
+                        + "  if (document.readyState !== 'loading') { done(); return; }"
+                        + "  var loaded = function () { done(); };"
+                        + "  document.addEventListener('DOMContentLoaded', loaded);"
+                        + "  return function () { document.removeEventListener('DOMContentLoaded', loaded); };"
+                        + "}");
+    }
+
+    /**
+     * Условие: документ полностью загружен ({@code document.readyState === 'complete'}).
+     *
+     * @return условие готовности.
+     */
+    public static ReadinessCondition documentComplete() {
+        return custom("document complete",
+                "function (done) {"
+                        + "  if (document.readyState === 'complete') { done(); return; }"
+                        + "  var loaded = function () { done(); };"
+                        + "  window.addEventListener('load', loaded);"
+                        + "  return function () { window.removeEventListener('load', loaded); };"
+                        + "}");
+    }
+
+    /**
+     * Условие: в течение {@code quiet} на странице не было незавершённых {@code fetch}/XHR-запросов
+     * и не загружались новые ресурсы.
+     * <p>
+     * Счётчики запросов устанавливаются в странице при первой проверке и сохраняются до перехода на другую страницу.
+     *
+     * @param quiet длительность «тишины» в сети.
+     * @return условие готовности.
+     */
+    public static ReadinessCondition networkIdle(Duration quiet) {
+        return custom("network idle " + quiet.toMillis() + " ms",
+                "function (done) {"
+                        + "  var net = window.__fwNet;"
+                        + "  if (!net) {"
+                        + "    net = window.__fwNet = { pending: 0, listeners: [] };"
+                        + "    var notify = function () { net.listeners.forEach(function (l) { l(); }); };"
+                        + "    var start = function () { net.pending++; notify(); };"
+                        + "    var end = function () { net.pending = Math.max(0, net.pending - 1); notify(); };"
+                        + "    if (window.fetch) {"
+                        + "      var originalFetch = window.fetch;"
+                        + "      window.fetch = function () {"
+                        + "        start();"
+                        + "        return originalFetch.apply(this, arguments).then("
+                        + "          function (r) { end(); return r; }, function (e) { end(); throw e; });"
+                        + "      };"
+                        + "    }"
+                        + "    var originalSend = XMLHttpRequest.prototype.send;"
+                        + "    XMLHttpRequest.prototype.send = function () {"
+                        + "      start(); this.addEventListener('loadend', end);"
+                        + "      return originalSend.apply(this, arguments);"
+                        + "    };"
+                        + "    if (window.PerformanceObserver) {"
+                        + "      try { new PerformanceObserver(notify).observe({ type: 'resource' }); } catch (e) {}"
+                        + "    }"
+                        + "  }"
+                        + "  var timer = null;"
+                        + "  var check = function () {"
+                        + "    clearTimeout(timer);"
+                        + "    if (net.pending === 0) { timer = setTimeout(done, " + quiet.toMillis() + "); }"
+                        + "  };"
+                        + "  net.listeners.push(check);"
+                        + "  check();"
+                        + "  return function () {"
+                        + "    clearTimeout(timer);"
+                        + "    net.listeners = net.listeners.filter(function (l) { return l !== check; });"
+                        + "  };"
+                        + "}");
+    }
+
+    /**
+     * Условие: в течение {@code quiet} в DOM не было изменений (отслеживается через {@code MutationObserver}).
+     *
+     * @param quiet длительность отсутствия изменений DOM.
+     * @return условие готовности.
+     */
+    public static ReadinessCondition domQuiet(Duration quiet) {
+        return custom("DOM quiet " + quiet.toMillis() + " ms",
+                "function (done) {"
+                        + "  var timer = null, observer = null;"
+                        + "  var reset = function () {"
+                        + "    clearTimeout(timer);"
+                        + "    timer = setTimeout(function () { observer.disconnect(); done(); }, " + quiet.toMillis() + ");"
+                        + "  };"
+                        + "  observer = new MutationObserver(reset);"
+                        + "  observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });"
+                        + "  reset();"
+                        + "  return function () { clearTimeout(timer); observer.disconnect(); };"
+                        + "}");
+    }
+
+    /**
+     * Условие: элемент, найденный по XPath, отображается на странице.
+     * Проверка повторяется при каждом изменении DOM.
+     *
+     * @param xpath XPath-выражение элемента.
+     * @return условие готовности.
+     */
+    public static ReadinessCondition elementVisible(String xpath) {
+        return predicate("element visible " + xpath,
+                "var el = document.evaluate(" + jsString(xpath)
+                        + ", document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+                        + "if (!el) { return false; }"
+                        + "var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();"
+                        + "return style.display !== 'none' && style.visibility !== 'hidden' && (rect.width > 0 || rect.height > 0);");
+    }
+
+    /**
+     * Условие на основе JavaScript-предиката. Тело предиката должно возвращать {@code true}, когда страница готова;
+     * предикат вычисляется сразу, при каждом изменении DOM и по событию {@code load}.
+     *
+     * @param name имя условия.
+     * @param body тело JavaScript-функции без параметров, например {@code "return !!window.appReady;"}.
+     * @return условие готовности.
+     */
+    public static ReadinessCondition predicate(String name, String body) {
+        return custom(name,
+                "function (done) {"
+                        + "  var predicate = function () {" + body + "};"
+                        + "  var observer = null;"
+                        + "  var stop = function () {"
+                        + "    if (observer) { observer.disconnect(); }"
+                        + "    window.removeEventListener('load', check);"
+                        + "  };"
+                        + "  var check = function () {"
+                        + "    if (predicate()) { stop(); done(); return true; }"
+                        + "    return false;"
+                        + "  };"
+                        + "  if (check()) { return; }"
+                        + "  observer = new MutationObserver(check);"
+                        + "  observer.observe(document, { childList: true, subtree: true, attributes: true });"
+                        + "  window.addEventListener('load', check);"
+                        + "  return stop;"
+                        + "}");
+    }
+
+    /**
+     * Произвольное условие готовности.
+     *
+     * @param name     имя условия.
+     * @param function JavaScript-функция вида {@code function (done) { ... }}, которая может вернуть функцию очистки
+     *                 (см. {@link ReadinessCondition}).
+     * @return условие готовности.
+     */
+    public static ReadinessCondition custom(String name, String function) {
+        return new ReadinessCondition() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public String function() {
+                return function;
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * Условие, выполненное, когда выполнены все переданные условия.
+     *
+     * @param conditions условия готовности.
+     * @return составное условие.
+     */
+    public static ReadinessCondition allOf(ReadinessCondition... conditions) {
+        List<ReadinessCondition> list = Arrays.asList(conditions);
+        StringBuilder names = new StringBuilder();
+        StringBuilder functions = new StringBuilder();
+        for (ReadinessCondition condition : list) {
+            names.append(names.length() == 0 ? "" : " & ").append(condition.name());
+            functions.append(functions.length() == 0 ? "" : ", ").append(condition.function());
+        }
+        return custom(names.toString(),
+                "function (done) {"
+                        + "  var parts = [" + functions + "], left = parts.length, cleanups = [];"
+                        + "  if (left === 0) { done(); return; }"
+                        + "  parts.forEach(function (part) { var called = false; var cleanup = part(function () {"
+                        + "    if (!called) { called = true; if (--left === 0) { done(); } } });"
+                        + "    if (typeof cleanup === 'function') { cleanups.push(cleanup); } });"
+                        + "  return function () { cleanups.forEach(function (cleanup) { cleanup(); }); };"
+                        + "}");
+    }
+
+    /**
+     * Ожидает выполнения условий в браузере текущего потока.
+     *
+     * @param timeout    максимальное время ожидания.
+     * @param conditions условия готовности.
+     * @return {@code true}, если все условия выполнены до истечения времени ожидания.
+     */
+    @SuppressWarnings("unchecked")
+    public static boolean await(Duration timeout, ReadinessCondition... conditions) {
+        List<String> names = new ArrayList<>();
+        StringBuilder functions = new StringBuilder();
+        for (ReadinessCondition condition : conditions) {
+            names.add(condition.name());
+            functions.append(functions.length() == 0 ? "" : ", ").append(condition.function());
+        }
+
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        Duration previous = null;
+        if (timeout.compareTo(Duration.ofSeconds(25)) > 0) {
+            previous = driver.manage().timeouts().getScriptTimeout();
+            driver.manage().timeouts().scriptTimeout(timeout.plusSeconds(5));
+        }
+        Map<String, Object> result;
+        try {
+            result = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(
+                    AWAIT_SCRIPT.replace("__CONDITIONS__", functions), timeout.toMillis(), names);
+        } finally {
+            if (previous != null) {
+                driver.manage().timeouts().scriptTimeout(previous);
+            }
+        }
+
+        boolean ready = Boolean.TRUE.equals(result.get("ready"));
+        if (!ready) {
+            logger.info("Page readiness timed out after {} ms, pending: {}", timeout.toMillis(), result.get("pending"));
+        }
+        return ready;
+    }
+
+    /**
+     * Экранирует строку для подстановки в JavaScript-код.
+     *
+     * @param value исходная строка.
+     * @return строковый литерал JavaScript.
+     */
+    static String jsString(String value) {
+        StringBuilder result = new StringBuilder("'");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '\'':
+                    result.append("\\'");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                default:
+                    result.append(c);
+            }
+        }
+        return result.append('\'').toString();
+    }
+}
@@ -0,0 +1,31 @@
+package readiness;
+
+/**
+ * Интерфейс {@code ReadinessCondition} описывает условие готовности страницы, которое проверяется в браузере.
+ * <p>
+ * Условие задаётся JavaScript-функцией вида {@code function (done) { ... }}: функция подписывается на события
+ * страницы ({@code load}, {@code MutationObserver}, {@code PerformanceObserver} и т.п.) и вызывает {@code done()},
+ * как только условие выполнено. Опрос по таймеру при этом не нужен. Функция может вернуть функцию очистки,
+ * которая отписывается от событий: она вызывается, когда ожидание закончилось (в том числе по истечении времени),
+ * чтобы наблюдатели не продолжали работать на странице.
+ * Готовые условия создаются фабричными методами класса {@link Readiness}.
+ *
+ * @author Хабибуллина Алина
+ */
+public interface ReadinessCondition {
+
+    /**
+     * Имя условия, используемое в логах и сообщениях об ошибках.
+     *
+     * @return имя условия.
+     */
+    String name();
+
+    /**
+     * JavaScript-функция, вызывающая переданный ей callback {@code done}, когда условие выполнено,
+     * и, возможно, возвращающая функцию очистки.
+     *
+     * @return исходный код функции.
+     */
+    String function();
+}
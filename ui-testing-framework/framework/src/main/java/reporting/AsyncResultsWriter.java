@@ -0,0 +1,205 @@
+package reporting;
+
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Запись результатов Allure в отдельном потоке через ограниченную очередь.
+ * <p>
+ * Поток теста только ставит запись в очередь; сериализация JSON, сжатие скриншотов и работа с диском
+ * выполняются потоком {@code allure-writer}. Размер очереди ограничен, поэтому память не растёт
+ * при медленном диске: если очередь заполнена, поток теста ждёт, и это время попадает в {@link ReportingStats}.
+ * После закрытия (при завершении JVM) записи выполняются синхронно.
+ * <p>
+ * Скриншот объявляется в результате теста как JPEG ещё в потоке теста, а сжимается позже. Если сжать его
+ * не удалось, файл записывается как PNG, а описание вложения исправляется перед записью результата
+ * теста или контейнера: записи выполняются по очереди, поэтому скриншот всегда обрабатывается раньше
+ * результата, к которому он прикреплён.
+ *
+ * @author Хабибуллина Алина
+ */
+final class AsyncResultsWriter implements AllureResultsWriter {
+    private static final Logger logger = LoggerFactory.getLogger(AsyncResultsWriter.class);
+
+    private final AllureResultsWriter delegate;
+    private final BlockingQueue<Runnable> queue;
+    private final ReportingStats stats;
+    private final Map<String, Attachment> uncompressed = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    AsyncResultsWriter(AllureResultsWriter delegate, int capacity, ReportingStats stats) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.stats = stats;
+        Thread worker = new Thread(this::drain, "allure-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        submit(() -> {
+            relabel(testResult.getAttachments(), testResult.getSteps());
+            delegate.write(testResult);
+        });
+    }
+
+    @Override
+    public void write(TestResultContainer testResultContainer) {
+        submit(() -> {
+            relabel(testResultContainer.getBefores());
+            relabel(testResultContainer.getAfters());
+            delegate.write(testResultContainer);
+        });
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        byte[] content;
+        try {
+            content = attachment.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ошибка чтения вложения " + source, e);
+        }
+        submit(() -> delegate.write(source, new ByteArrayInputStream(content)));
+    }
+
+    /**
+     * Ставит в очередь сжатие и запись скриншота.
+     *
+     * @param source  имя файла вложения, полученное от {@code AllureLifecycle.prepareAttachment} для JPEG.
+     * @param png     скриншот в формате PNG.
+     * @param quality качество JPEG.
+     */
+    void writeScreenshot(String source, byte[] png, float quality) {
+        submit(() -> {
+            Screenshots.Image image = Screenshots.toJpeg(png, quality);
+            stats.recordScreenshot(png.length, image.bytes().length);
+            String target = source;
+            if (!"jpg".equals(image.extension())) {
+                int dot = source.lastIndexOf('.');
+                target = (dot < 0 ? source : source.substring(0, dot)) + "." + image.extension();
+                uncompressed.put(source, new Attachment().setSource(target).setType(image.type()));
+            }
+            delegate.write(target, new ByteArrayInputStream(image.bytes()));
+        });
+    }
+
+    private void relabel(List<FixtureResult> fixtures) {
+        if (fixtures != null) {
+            fixtures.forEach(fixture -> relabel(fixture.getAttachments(), fixture.getSteps()));
+        }
+    }
+
+    /**
+     * Исправляет тип и имя файла вложений, записанных не в том формате, в котором они были объявлены.
+     */
+    private void relabel(List<Attachment> attachments, List<StepResult> steps) {
+        if (uncompressed.isEmpty()) {
+            return;
+        }
+        if (attachments != null) {
+            for (Attachment attachment : attachments) {
+                Attachment written = attachment.getSource() == null ? null : uncompressed.remove(attachment.getSource());
+                if (written != null) {
+                    attachment.setSource(written.getSource());
+                    attachment.setType(written.getType());
+                }
+            }
+        }
+        if (steps != null) {
+            steps.forEach(step -> relabel(step.getAttachments(), step.getSteps()));
+        }
+    }
+
+    /**
+     * Ждёт, пока будут выполнены все записи, поставленные в очередь до вызова.
+     *
+     * @param timeoutMillis максимальное время ожидания.
+     * @return {@code true}, если очередь опустела за отведённое время.
+     */
+    boolean flush(long timeoutMillis) {
+        if (closed) {
+            return true;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        submit(done::countDown);
+        try {
+            return done.await(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Дописывает очередь и переводит запись в синхронный режим.
+     *
+     * @param timeoutMillis максимальное время ожидания.
+     */
+    void close(long timeoutMillis) {
+        flush(timeoutMillis);
+        closed = true;
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            run(task);
+        }
+    }
+
+    private void submit(Runnable task) {
+        if (closed) {
+            run(task);
+            return;
+        }
+        long started = System.nanoTime();
+        boolean waited = false;
+        try {
+            if (!queue.offer(task)) {
+                waited = true;
+                queue.put(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run(task);
+        } finally {
+            stats.recordEnqueue(System.nanoTime() - started, waited);
+        }
+    }
+
+    private void drain() {
+        while (!closed) {
+            try {
+                run(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+            stats.recordWrite();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write Allure result: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package reporting;
+
+import com.codeborne.selenide.WebDriverRunner;
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import com.codeborne.selenide.logevents.SelenideLogger;
+import footprint.ResourceTracker;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+
+/**
+ * Слушатель Selenide, записывающий шаги в отчёт Allure — замена {@code AllureSelenide}.
+ * <p>
+ * Скриншоты снимаются по {@link ScreenshotPolicy} (по умолчанию только после упавших шагов),
+ * сжимаются и записываются в отдельном потоке (см. {@link Reporting}). Время снятия скриншота
+ * в потоке теста учитывается в {@link ReportingStats}, объём — в {@link ResourceTracker}, который может
+ * отключить скриншоты успешных шагов при превышении ограничений памяти.
+ * <pre>{@code
+ * @BeforeEach
+ * public void setUp() {
+ *     ReportListener.register();
+ * }
+ *
+ * @AfterEach
+ * public void tearDown() {
+ *     ReportListener.unregister();
+ * }
+ * }</pre>
+ *
+ * @author Хабибуллина Алина
+ */
+public class ReportListener implements LogEventListener {
+    private static final Logger logger = LoggerFactory.getLogger(ReportListener.class);
+
+    /**
+     * Имя, под которым слушатель регистрируется в {@link SelenideLogger}.
+     */
+    public static final String NAME = "FrameworkReport";
+
+    private static final ThreadLocal<long[]> STEPS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final ScreenshotPolicy policy;
+
+    /**
+     * Создаёт слушатель с политикой скриншотов из настроек.
+     */
+    public ReportListener() {
+        this(ScreenshotPolicy.current());
+    }
+
+    /**
+     * Создаёт слушатель с заданной политикой скриншотов.
+     *
+     * @param policy политика скриншотов.
+     */
+    public ReportListener(ScreenshotPolicy policy) {
+        this.policy = policy;
+    }
+
+    /**
+     * Регистрирует слушатель для текущего потока.
+     */
+    public static void register() {
+        SelenideLogger.addListener(NAME, new ReportListener());
+    }
+
+    /**
+     * Удаляет слушатель текущего потока.
+     */
+    public static void unregister() {
+        SelenideLogger.removeListener(NAME);
+    }
+
+    @Override
+    public void beforeEvent(LogEvent event) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        lifecycle.getCurrentTestCaseOrStep().ifPresent(parentUuid -> lifecycle.startStep(parentUuid,
+                UUID.randomUUID().toString(), new StepResult().setName(event.toString()).setStatus(Status.PASSED)));
+    }
+
+    @Override
+    public void afterEvent(LogEvent event) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        if (!lifecycle.getCurrentTestCaseOrStep().isPresent()) {
+            return;
+        }
+        boolean failed = event.getStatus() == LogEvent.EventStatus.FAIL;
+        if (policy.shouldCapture(failed, ++STEPS.get()[0]) && ResourceTracker.allowAttachment(failed)) {
+            byte[] png = capture();
+            if (png != null) {
+                ResourceTracker.recordAttachment(png.length);
+                Reporting.attachScreenshot(lifecycle, "Screenshot", png);
+            }
+        }
+        if (failed) {
+            lifecycle.updateStep(step -> step
+                    .setStatus(ResultsUtils.getStatus(event.getError()).orElse(Status.BROKEN))
+                    .setStatusDetails(ResultsUtils.getStatusDetails(event.getError()).orElse(new StatusDetails())));
+        } else {
+            lifecycle.updateStep(step -> step.setStatus(Status.PASSED));
+        }
+        lifecycle.stopStep();
+    }
+
+    private static byte[] capture() {
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            return null;
+        }
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        if (!(driver instanceof TakesScreenshot)) {
+            return null;
+        }
+        long started = System.nanoTime();
+        try {
+            return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException e) {
+            logger.debug("Screenshot is not taken: {}", e.getMessage());
+            return null;
+        } finally {
+            ReportingStats.total().recordCapture(System.nanoTime() - started);
+        }
+    }
+}
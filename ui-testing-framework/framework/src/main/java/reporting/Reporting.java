@@ -0,0 +1,111 @@
+package reporting;
+
+import config.FrameworkConfig;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.util.PropertiesUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Класс {@code Reporting} подключает асинхронную запись отчёта Allure.
+ * <p>
+ * {@link #install()} заменяет {@code Allure.getLifecycle()} на экземпляр, который пишет результаты тестов,
+ * контейнеры и вложения через {@link AsyncResultsWriter}, в тот же каталог {@code allure.results.directory}.
+ * Вызывается {@link ReportingSessionListener} при открытии сессии JUnit Platform — до того, как слушатель Allure
+ * получит свой экземпляр {@code AllureLifecycle}; если он уже получен, в лог пишется предупреждение.
+ * Настройки:
+ * <ul>
+ *     <li>{@code framework.reporting.async} — асинхронная запись (по умолчанию {@code true});</li>
+ *     <li>{@code framework.reporting.queue} — размер очереди записи (по умолчанию 64);</li>
+ *     <li>{@code framework.reporting.screenshots.quality} — качество JPEG скриншотов (по умолчанию 0.6).</li>
+ * </ul>
+ *
+ * @author Хабибуллина Алина
+ */
+public final class Reporting {
+    private static final Logger logger = LoggerFactory.getLogger(Reporting.class);
+
+    private static final boolean ASYNC = FrameworkConfig.get().getBoolean("framework.reporting.async", true);
+    private static final int QUEUE = Math.max(1, FrameworkConfig.get().getInt("framework.reporting.queue", 64));
+    private static final float QUALITY = Float.parseFloat(
+            FrameworkConfig.get().getString("framework.reporting.screenshots.quality", "0.6"));
+    private static final long FLUSH_TIMEOUT_MILLIS = 60_000;
+
+    private static volatile AsyncResultsWriter writer;
+
+    private Reporting() {
+    }
+
+    /**
+     * Подключает асинхронную запись отчёта, если она включена и ещё не подключена.
+     */
+    public static synchronized void install() {
+        if (!ASYNC || writer != null) {
+            return;
+        }
+        Path directory = Paths.get(PropertiesUtils.loadAllureProperties()
+                .getProperty("allure.results.directory", "allure-results"));
+        if (lifecycleCreated()) {
+            logger.warn("Allure lifecycle was created before asynchronous reporting was installed: "
+                    + "listeners built earlier (AllureJunitPlatform) keep writing results synchronously");
+        }
+        AsyncResultsWriter installed = new AsyncResultsWriter(
+                new FileSystemResultsWriter(directory), QUEUE, ReportingStats.total());
+        Allure.setLifecycle(new AllureLifecycle(installed));
+        writer = installed;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> installed.close(FLUSH_TIMEOUT_MILLIS),
+                "allure-writer-shutdown"));
+        logger.debug("Allure results are written asynchronously to {}", directory.toAbsolutePath());
+    }
+
+    /**
+     * Проверяет, создан ли уже экземпляр {@code AllureLifecycle} по умолчанию: слушатель Allure получает его
+     * в конструкторе, и подмена после этого на него не действует.
+     */
+    private static boolean lifecycleCreated() {
+        try {
+            Field field = Allure.class.getDeclaredField("lifecycle");
+            field.setAccessible(true);
+            return field.get(null) != null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Cannot check whether Allure lifecycle was created: {}", e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * Ждёт завершения всех поставленных в очередь записей.
+     */
+    public static void flush() {
+        AsyncResultsWriter current = writer;
+        if (current != null && !current.flush(FLUSH_TIMEOUT_MILLIS)) {
+            logger.warn("Allure results were not flushed in {} ms", FLUSH_TIMEOUT_MILLIS);
+        }
+    }
+
+    /**
+     * Прикрепляет скриншот к текущему шагу или тесту. При асинхронной записи скриншот сжимается в JPEG
+     * и записывается в потоке записи (если сжать не удалось — в формате PNG с соответствующим типом вложения),
+     * иначе записывается синхронно в исходном формате PNG.
+     *
+     * @param lifecycle жизненный цикл Allure.
+     * @param name      имя вложения.
+     * @param png       скриншот в формате PNG.
+     */
+    static void attachScreenshot(AllureLifecycle lifecycle, String name, byte[] png) {
+        AsyncResultsWriter current = writer;
+        if (current == null) {
+            lifecycle.addAttachment(name, "image/png", "png", png);
+            ReportingStats.total().recordScreenshot(png.length, png.length);
+            return;
+        }
+        String source = lifecycle.prepareAttachment(name, "image/jpeg", "jpg");
+        current.writeScreenshot(source, png, QUALITY);
+    }
+}
@@ -0,0 +1,24 @@
+package reporting;
+
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Слушатель JUnit Platform, дожидающийся завершения асинхронной записи отчёта Allure после всех тестов.
+ * <p>
+ * Регистрируется автоматически через {@code META-INF/services}. Сама запись подключается раньше,
+ * слушателем сессии {@link ReportingSessionListener}.
+ *
+ * @author Хабибуллина Алина
+ */
+public class ReportingExecutionListener implements TestExecutionListener {
+    private static final Logger logger = LoggerFactory.getLogger(ReportingExecutionListener.class);
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        Reporting.flush();
+        logger.info("Allure reporting: {}", ReportingStats.total());
+    }
+}
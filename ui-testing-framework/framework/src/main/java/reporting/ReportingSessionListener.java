@@ -0,0 +1,31 @@
+package reporting;
+
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+
+/**
+ * Слушатель сессии JUnit Platform, подключающий асинхронную запись отчёта Allure ({@link Reporting#install()}).
+ * <p>
+ * Регистрируется автоматически через {@code META-INF/services}. Слушатели сессии создаются до сборки
+ * {@code Launcher}, а значит до создания слушателей выполнения тестов, в том числе слушателя Allure, который
+ * получает {@code AllureLifecycle} в конструкторе. Поэтому подмена не зависит от порядка, в котором
+ * {@code ServiceLoader} находит слушатели выполнения в classpath. Запись подключается уже при создании
+ * слушателя: {@link #launcherSessionOpened(LauncherSession)} вызывается после сборки {@code Launcher}
+ * и лишь повторяет подключение, если его не было.
+ *
+ * @author Хабибуллина Алина
+ */
+public class ReportingSessionListener implements LauncherSessionListener {
+
+    /**
+     * Создаёт слушатель и подключает асинхронную запись отчёта.
+     */
+    public ReportingSessionListener() {
+        Reporting.install();
+    }
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        Reporting.install();
+    }
+}
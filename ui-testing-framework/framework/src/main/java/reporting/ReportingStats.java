@@ -0,0 +1,109 @@
+package reporting;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс {@code ReportingStats} накапливает статистику записи отчёта Allure за прогон тестов:
+ * сколько времени потоки тестов провели в отчётности (снятие скриншотов и постановка записи в очередь,
+ * включая ожидание при заполненной очереди), сколько скриншотов снято и насколько они сжаты.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class ReportingStats {
+    private static final ReportingStats TOTAL = new ReportingStats();
+
+    private final LongAdder enqueueNanos = new LongAdder();
+    private final LongAdder fullQueueWaits = new LongAdder();
+    private final LongAdder captureNanos = new LongAdder();
+    private final LongAdder screenshots = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+
+    private ReportingStats() {
+    }
+
+    /**
+     * @return статистика за весь прогон.
+     */
+    public static ReportingStats total() {
+        return TOTAL;
+    }
+
+    void recordEnqueue(long nanos, boolean waited) {
+        enqueueNanos.add(nanos);
+        if (waited) {
+            fullQueueWaits.increment();
+        }
+    }
+
+    void recordCapture(long nanos) {
+        captureNanos.add(nanos);
+    }
+
+    void recordScreenshot(long raw, long written) {
+        screenshots.increment();
+        rawBytes.add(raw);
+        writtenBytes.add(written);
+    }
+
+    void recordWrite() {
+        writes.increment();
+    }
+
+    /**
+     * @return суммарное время, которое потоки тестов провели в отчётности, в наносекундах.
+     */
+    public long blockedNanos() {
+        return enqueueNanos.sum() + captureNanos.sum();
+    }
+
+    /**
+     * @return время снятия скриншотов в потоках тестов, в наносекундах.
+     */
+    public long captureNanos() {
+        return captureNanos.sum();
+    }
+
+    /**
+     * @return сколько раз поток теста ждал освобождения места в очереди записи.
+     */
+    public long fullQueueWaits() {
+        return fullQueueWaits.sum();
+    }
+
+    /**
+     * @return количество записанных скриншотов.
+     */
+    public long screenshots() {
+        return screenshots.sum();
+    }
+
+    /**
+     * @return объём скриншотов до сжатия, в байтах.
+     */
+    public long screenshotRawBytes() {
+        return rawBytes.sum();
+    }
+
+    /**
+     * @return объём скриншотов после сжатия, в байтах.
+     */
+    public long screenshotWrittenBytes() {
+        return writtenBytes.sum();
+    }
+
+    /**
+     * @return количество выполненных записей (результаты, контейнеры и вложения).
+     */
+    public long writes() {
+        return writes.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "test threads blocked " + blockedNanos() / 1_000_000 + " ms (screenshots " + captureNanos() / 1_000_000
+                + " ms, full queue " + fullQueueWaits() + " times), " + writes() + " writes, " + screenshots()
+                + " screenshots " + screenshotRawBytes() / 1024 + " KB -> " + screenshotWrittenBytes() / 1024 + " KB";
+    }
+}
@@ -0,0 +1,62 @@
+package reporting;
+
+import config.FrameworkConfig;
+
+import java.util.Locale;
+
+/**
+ * Перечисление {@code ScreenshotPolicy} определяет, после каких шагов Selenide снимается скриншот.
+ * Политика задаётся свойством {@code framework.reporting.screenshots}, интервал выборки —
+ * свойством {@code framework.reporting.screenshots.every} (по умолчанию каждый 10-й шаг).
+ *
+ * @author Хабибуллина Алина
+ */
+public enum ScreenshotPolicy {
+    /**
+     * Скриншоты не снимаются.
+     */
+    NONE,
+    /**
+     * Скриншот снимается только после упавшего шага (по умолчанию).
+     */
+    FAILURE,
+    /**
+     * Скриншот снимается после упавшего шага и после каждого N-го успешного шага потока.
+     */
+    SAMPLED,
+    /**
+     * Скриншот снимается после каждого шага.
+     */
+    ALL;
+
+    private static final ScreenshotPolicy CURRENT = valueOf(
+            FrameworkConfig.get().getString("framework.reporting.screenshots", "failure").toUpperCase(Locale.ROOT));
+    private static final int EVERY = Math.max(1, FrameworkConfig.get().getInt("framework.reporting.screenshots.every", 10));
+
+    /**
+     * @return политика, заданная настройками.
+     */
+    public static ScreenshotPolicy current() {
+        return CURRENT;
+    }
+
+    /**
+     * Решает, нужен ли скриншот после шага.
+     *
+     * @param failed признак упавшего шага.
+     * @param step   порядковый номер шага в потоке (начиная с 1).
+     * @return {@code true}, если скриншот нужно снять.
+     */
+    public boolean shouldCapture(boolean failed, long step) {
+        switch (this) {
+            case FAILURE:
+                return failed;
+            case SAMPLED:
+                return failed || step % EVERY == 0;
+            case ALL:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package reporting;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Сжатие скриншотов браузера: PNG без потерь перекодируется в JPEG с заданным качеством.
+ * Выполняется в потоке записи отчёта, а не в потоке теста.
+ *
+ * @author Хабибуллина Алина
+ */
+final class Screenshots {
+    private static final Logger logger = LoggerFactory.getLogger(Screenshots.class);
+
+    private Screenshots() {
+    }
+
+    /**
+     * Перекодирует PNG в JPEG.
+     *
+     * @param png     скриншот в формате PNG.
+     * @param quality качество JPEG от 0 до 1.
+     * @return JPEG или исходный PNG, если перекодировать не удалось.
+     */
+    static Image toJpeg(byte[] png, float quality) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+            if (source == null || !writers.hasNext()) {
+                return Image.png(png);
+            }
+            BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = rgb.createGraphics();
+            graphics.drawImage(source, 0, 0, Color.WHITE, null);
+            graphics.dispose();
+
+            ImageWriter writer = writers.next();
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 4);
+            try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+                writer.setOutput(stream);
+                writer.write(null, new IIOImage(rgb, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            return new Image(out.toByteArray(), "image/jpeg", "jpg");
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Screenshot is written uncompressed: {}", e.getMessage());
+            return Image.png(png);
+        }
+    }
+
+    /**
+     * Скриншот в том формате, в котором он будет записан.
+     */
+    static final class Image {
+        private final byte[] bytes;
+        private final String type;
+        private final String extension;
+
+        private Image(byte[] bytes, String type, String extension) {
+            this.bytes = bytes;
+            this.type = type;
+            this.extension = extension;
+        }
+
+        static Image png(byte[] bytes) {
+            return new Image(bytes, "image/png", "png");
+        }
+
+        /**
+         * @return содержимое файла.
+         */
+        byte[] bytes() {
+            return bytes;
+        }
+
+        /**
+         * @return MIME-тип содержимого.
+         */
+        String type() {
+            return type;
+        }
+
+        /**
+         * @return расширение файла без точки.
+         */
+        String extension() {
+            return extension;
+        }
+    }
+}
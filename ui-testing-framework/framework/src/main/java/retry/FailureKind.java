@@ -0,0 +1,66 @@
+package retry;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Перечисление {@code FailureKind} — классификация причины падения теста для {@link RetryExtension}.
+ *
+ * @author Хабибуллина Алина
+ */
+public enum FailureKind {
+    /**
+     * Сбой окружения, который обычно не повторяется: потеря сессии браузера, сетевые тайм-ауты,
+     * элемент перекрыт анимацией или заменён при перерисовке.
+     */
+    TRANSIENT,
+    /**
+     * Проверка не прошла: элемент не найден или не в том состоянии, значение не совпало.
+     */
+    ASSERTION,
+    /**
+     * Прочие ошибки теста или фреймворка.
+     */
+    ERROR;
+
+    private static final Class<?>[] TRANSIENT_CAUSES = {
+            NoSuchSessionException.class,
+            SessionNotCreatedException.class,
+            UnreachableBrowserException.class,
+            StaleElementReferenceException.class,
+            ElementClickInterceptedException.class,
+            TimeoutException.class,
+            ScriptTimeoutException.class,
+            ConnectException.class,
+            SocketTimeoutException.class,
+            HttpTimeoutException.class
+    };
+
+    /**
+     * Определяет вид сбоя по исключению и цепочке его причин. Проверки Selenide, упавшие из-за сбоя
+     * окружения (например, {@code ElementShould} с причиной {@link StaleElementReferenceException}),
+     * считаются {@link #TRANSIENT}.
+     *
+     * @param failure исключение теста.
+     * @return вид сбоя.
+     */
+    public static FailureKind of(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            for (Class<?> type : TRANSIENT_CAUSES) {
+                if (type.isInstance(t)) {
+                    return TRANSIENT;
+                }
+            }
+        }
+        return failure instanceof AssertionError ? ASSERTION : ERROR;
+    }
+}
@@ -0,0 +1,99 @@
+package retry;
+
+import config.FrameworkConfig;
+import driver.DriverPool;
+import driver.TestContextExtension;
+import metrics.StepMetrics;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+
+/**
+ * JUnit 5 расширение {@code RetryExtension} повторяет тест, упавший из-за сбоя окружения ({@link FailureKind#TRANSIENT}).
+ * <p>
+ * Тесты, упавшие на проверке ({@link FailureKind#ASSERTION}) или с другой ошибкой, не повторяются: повтор
+ * только удвоил бы время падения. Перед повтором браузер возвращается в пул с проверкой работоспособности
+ * и берётся заново, затем выжидается пауза, удваивающаяся с каждым повтором. Тест не повторяется, если
+ * упавшая попытка длилась дольше {@code framework.retry.budget} — дорогой тест дешевле перезапустить целиком.
+ * Время упавших попыток и пауз записывается в {@link StepMetrics} (действия {@code retry} и {@code retryBackoff}).
+ * <p>
+ * Настройки: {@code framework.retry.max} (повторов, по умолчанию 1; 0 — отключить),
+ * {@code framework.retry.backoff} (первая пауза, 1000 мс), {@code framework.retry.budget} (60000 мс).
+ * Тест повторяется внутри одного вызова {@code @BeforeEach}/{@code @AfterEach} и других перехватчиков
+ * (время {@code @Timeout} считается на все попытки вместе), поэтому страницы должен открывать сам тест.
+ * Состояние потока, которое задаёт {@link TestContextExtension} (MDC, страницы, профиль ожидания), перед
+ * повтором сбрасывается и задаётся заново, как между двумя тестами.
+ *
+ * @author Хабибуллина Алина
+ */
+public class RetryExtension implements InvocationInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(RetryExtension.class);
+
+    private static final int MAX = FrameworkConfig.get().getInt("framework.retry.max", 1);
+    private static final long BACKOFF_MILLIS = FrameworkConfig.get().getLong("framework.retry.backoff", 1000);
+    private static final long BUDGET_MILLIS = FrameworkConfig.get().getLong("framework.retry.budget", 60_000);
+
+    private static final TestContextExtension CONTEXT = new TestContextExtension();
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        String test = extensionContext.getDisplayName();
+        long started = System.nanoTime();
+        Throwable failure;
+        try {
+            invocation.proceed();
+            return;
+        } catch (Throwable t) {
+            failure = t;
+        }
+
+        for (int retry = 1; ; retry++) {
+            long elapsed = System.nanoTime() - started;
+            FailureKind kind = FailureKind.of(failure);
+            if (retry > MAX || kind != FailureKind.TRANSIENT) {
+                throw failure;
+            }
+            if (elapsed / 1_000_000 > BUDGET_MILLIS) {
+                logger.info("Not retrying {}: failed attempt took {} ms", test, elapsed / 1_000_000);
+                throw failure;
+            }
+            StepMetrics.record("retry", test, elapsed);
+            logger.warn("Retrying {} ({} of {}) after transient failure: {}", test, retry, MAX, failure.toString());
+
+            long backoffStarted = System.nanoTime();
+            resetBrowser(extensionContext);
+            try {
+                Thread.sleep(BACKOFF_MILLIS << (retry - 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.addSuppressed(e);
+                throw failure;
+            }
+            StepMetrics.record("retryBackoff", test, System.nanoTime() - backoffStarted);
+
+            started = System.nanoTime();
+            try {
+                ReflectionSupport.invokeMethod(invocationContext.getExecutable(),
+                        invocationContext.getTarget().orElse(null), invocationContext.getArguments().toArray());
+                logger.info("{} passed on retry {}", test, retry);
+                return;
+            } catch (Throwable t) {
+                t.addSuppressed(failure);
+                failure = t;
+            }
+        }
+    }
+
+    private static void resetBrowser(ExtensionContext context) {
+        CONTEXT.afterEach(context);
+        DriverPool.shared().release(true);
+        DriverPool.shared().acquire();
+        CONTEXT.beforeEach(context);
+    }
+}
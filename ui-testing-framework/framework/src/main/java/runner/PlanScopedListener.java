@@ -0,0 +1,86 @@
+package runner;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Передаёт события отдельных запусков {@link VirtualThreadRunner} общим слушателям JUnit Platform.
+ * <p>
+ * Каждый тестовый метод выполняется своим запуском, но слушатели вроде выгрузки метрик должны увидеть
+ * один прогон: начало и окончание отдельных запусков не передаются, вместо них вызываются
+ * {@link #planStarted(TestPlan)} и {@link #planFinished(TestPlan)} для всего найденного плана.
+ * Ошибка одного слушателя не мешает остальным.
+ *
+ * @author Хабибуллина Алина
+ */
+final class PlanScopedListener implements TestExecutionListener {
+    private static final Logger logger = LoggerFactory.getLogger(PlanScopedListener.class);
+
+    private final List<TestExecutionListener> listeners;
+
+    PlanScopedListener(List<TestExecutionListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    void planStarted(TestPlan plan) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.testPlanExecutionStarted(plan));
+        }
+    }
+
+    void planFinished(TestPlan plan) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.testPlanExecutionFinished(plan));
+        }
+    }
+
+    @Override
+    public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.dynamicTestRegistered(testIdentifier));
+        }
+    }
+
+    @Override
+    public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.executionSkipped(testIdentifier, reason));
+        }
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.executionStarted(testIdentifier));
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.executionFinished(testIdentifier, testExecutionResult));
+        }
+    }
+
+    @Override
+    public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+        for (TestExecutionListener listener : listeners) {
+            notify(listener, () -> listener.reportingEntryPublished(testIdentifier, entry));
+        }
+    }
+
+    private static void notify(TestExecutionListener listener, Runnable event) {
+        try {
+            event.run();
+        } catch (RuntimeException e) {
+            logger.warn("Listener {} failed: {}", listener.getClass().getName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package runner;
+
+import config.FrameworkConfig;
+import driver.SessionLimiter;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reporting.Reporting;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Класс {@code VirtualThreadRunner} запускает тестовые методы на виртуальных потоках (Java 21+).
+ * <p>
+ * Тесты почти всё время ждут ответов WebDriver по HTTP, поэтому поток ОС на каждый тест не нужен:
+ * каждый тестовый метод выполняется отдельным запуском JUnit Platform в собственном виртуальном потоке,
+ * а число одновременно занятых браузеров ограничивает {@link SessionLimiter}
+ * ({@code -Dframework.driver.sessions}). Слушатели JUnit Platform из {@code META-INF/services}
+ * (Allure, метрики) получают события всех тестов и одно начало и окончание прогона.
+ * <p>
+ * Запуск: {@code mvn test -Pvirtual -pl site-hh-tests -am [-Dvirtual.sessions=8]}. Аргументы — пакеты
+ * с тестами (по умолчанию {@code org.example}); теги задаются {@code -Dframework.virtual.tags=hh,smoke}.
+ * Методы одного класса выполняются на разных экземплярах класса, поэтому классы
+ * с {@code @TestInstance(PER_CLASS)} и общим состоянием в этом режиме не поддерживаются.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class VirtualThreadRunner {
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadRunner.class);
+
+    private static volatile boolean active;
+
+    private VirtualThreadRunner() {
+    }
+
+    /**
+     * Признак того, что тесты выполняются этим запуском: они идут одновременно, хотя каждый отдельный запуск
+     * JUnit Platform последовательный. По нему отключается подготовка браузера следующего теста
+     * ({@code warmup.WarmUpExtension}).
+     *
+     * @return {@code true}, пока выполняется {@link #run(List)}.
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Запускает тесты и завершается исключением, если какие-то из них упали.
+     *
+     * @param args пакеты с тестами.
+     */
+    public static void main(String[] args) {
+        List<String> packages = args.length == 0 ? Collections.singletonList("org.example") : List.of(args);
+        long failed = run(packages);
+        if (failed > 0) {
+            throw new IllegalStateException("Упало тестов: " + failed);
+        }
+    }
+
+    /**
+     * Находит тесты в пакетах и выполняет каждый тестовый метод в отдельном виртуальном потоке.
+     *
+     * @param packages пакеты с тестами.
+     * @return количество упавших тестов.
+     */
+    public static long run(List<String> packages) {
+        if (SessionLimiter.limit() == 0) {
+            logger.warn("framework.driver.sessions is not set: all tests will open browsers at once");
+        }
+        TestPlan plan = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build())
+                .discover(request(packages));
+        List<String> methods = methods(plan);
+        logger.info("Running {} test methods on virtual threads (browser sessions: {})",
+                methods.size(), SessionLimiter.limit() == 0 ? "unlimited" : SessionLimiter.limit());
+
+        // Слушатель Allure получает AllureLifecycle в конструкторе, поэтому асинхронная запись
+        // подключается до загрузки слушателей.
+        Reporting.install();
+        List<TestExecutionListener> listeners = new ArrayList<>();
+        for (TestExecutionListener listener : ServiceLoader.load(TestExecutionListener.class)) {
+            listeners.add(listener);
+        }
+        PlanScopedListener forward = new PlanScopedListener(listeners);
+        // Методы уже отобраны при поиске (в том числе фильтром сегмента), повторно не фильтруются.
+        Launcher launcher = LauncherFactory.create(LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .enablePostDiscoveryFilterAutoRegistration(false)
+                .build());
+        AtomicLong failed = new AtomicLong();
+        List<TestExecutionSummary.Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        active = true;
+        forward.planStarted(plan);
+        long started = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(methods.size());
+            for (String method : methods) {
+                futures.add(executor.submit(() -> {
+                    SummaryGeneratingListener summary = new SummaryGeneratingListener();
+                    launcher.execute(single(method), summary, forward);
+                    failed.addAndGet(summary.getSummary().getTotalFailureCount());
+                    failures.addAll(summary.getSummary().getFailures());
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                    logger.error("Test execution failed: {}", e.getMessage());
+                }
+            }
+        } finally {
+            forward.planFinished(plan);
+            active = false;
+        }
+
+        for (TestExecutionSummary.Failure failure : failures) {
+            logger.warn("FAILED {}: {}", failure.getTestIdentifier().getDisplayName(), failure.getException().toString());
+        }
+        logger.info("Finished {} test methods in {} s, failures: {}",
+                methods.size(), (System.nanoTime() - started) / 1_000_000_000, failed.get());
+        return failed.get();
+    }
+
+    private static LauncherDiscoveryRequest request(List<String> packages) {
+        LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request();
+        for (String name : packages) {
+            builder.selectors(DiscoverySelectors.selectPackage(name));
+        }
+        String tags = FrameworkConfig.get().getString("framework.virtual.tags", "");
+        if (!tags.trim().isEmpty()) {
+            builder.filters(TagFilter.includeTags(tags.split(",")));
+        }
+        return builder.build();
+    }
+
+    private static LauncherDiscoveryRequest single(String uniqueId) {
+        return LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectUniqueId(uniqueId))
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "false")
+                .build();
+    }
+
+    /**
+     * Возвращает идентификаторы тестовых методов (включая параметризованные методы целиком).
+     */
+    private static List<String> methods(TestPlan plan) {
+        List<String> result = new ArrayList<>();
+        for (TestIdentifier root : plan.getRoots()) {
+            for (TestIdentifier identifier : plan.getDescendants(root)) {
+                boolean method = identifier.getSource().filter(MethodSource.class::isInstance).isPresent();
+                boolean parentMethod = plan.getParent(identifier)
+                        .flatMap(TestIdentifier::getSource)
+                        .filter(MethodSource.class::isInstance)
+                        .isPresent();
+                if (method && !parentMethod) {
+                    result.add(identifier.getUniqueId());
+                }
+            }
+        }
+        return result;
+    }
+}
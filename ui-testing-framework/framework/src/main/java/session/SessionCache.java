@@ -0,0 +1,182 @@
+package session;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
+import config.FrameworkConfig;
+import fixtures.Fixtures;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Класс {@code SessionCache} кэширует авторизованные сессии, чтобы не проходить форму входа в каждом тесте.
+ * <p>
+ * Для каждого набора учётных данных вход выполняется один раз: после него снимаются cookies и
+ * {@code localStorage}/{@code sessionStorage} ({@link SessionSnapshot}), которые сохраняются в памяти и в файл
+ * {@code framework.session.dir} (по умолчанию {@code target/session-cache}). В следующих тестах снимок
+ * восстанавливается в новый браузер до вызова {@code BasePage.openPage()}. Если снимок старше
+ * {@code framework.session.ttlMinutes} минут (по умолчанию 30), содержит просроченные cookies или
+ * не прошёл проверку, выполняется настоящий вход.
+ * <p>
+ * Пример:
+ * <pre>{@code
+ * SessionCache.shared().restoreOrLogin("leti:" + email, "https://id.etu.ru/login",
+ *         () -> loginPage.login(email, password),
+ *         () -> new HomePageLeti().openIfAccessible());
+ * homePage.openPage();
+ * }</pre>
+ *
+ * @author Хабибуллина Алина
+ */
+public final class SessionCache {
+    private static final Logger logger = LoggerFactory.getLogger(SessionCache.class);
+
+    private static final SessionCache SHARED = new SessionCache(
+            Paths.get(FrameworkConfig.get().getString("framework.session.dir", "target/session-cache")),
+            Duration.ofMinutes(FrameworkConfig.get().getLong("framework.session.ttlMinutes", 30)));
+
+    private final Json json = new Json();
+    private final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+    private final Path directory;
+    private final long ttlMillis;
+
+    /**
+     * Создаёт кэш сессий.
+     *
+     * @param directory каталог для файлов снимков.
+     * @param ttl       срок жизни снимка.
+     */
+    public SessionCache(Path directory, Duration ttl) {
+        this.directory = directory;
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    /**
+     * Возвращает общий кэш сессий.
+     *
+     * @return экземпляр {@code SessionCache}.
+     */
+    public static SessionCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Восстанавливает авторизованную сессию или выполняет вход и сохраняет её снимок.
+     *
+     * @param key             ключ набора учётных данных.
+     * @param originUrl       адрес страницы того же домена, на которой восстанавливаются cookies и хранилища.
+     * @param login           действие, выполняющее настоящий вход.
+     * @param isAuthenticated проверка, выполняемая после восстановления снимка (например, открытие страницы,
+     *                        доступной только после входа); если она вернула {@code false}, снимок
+     *                        удаляется и выполняется настоящий вход: сессия на сервере могла истечь раньше снимка.
+     * @return {@code true}, если сессия восстановлена из снимка, {@code false} — если выполнен вход.
+     */
+    public boolean restoreOrLogin(String key, String originUrl, Runnable login, BooleanSupplier isAuthenticated) {
+        synchronized (locks.computeIfAbsent(key, k -> new Object())) {
+            SessionSnapshot snapshot = load(key);
+            if (snapshot != null) {
+                try {
+                    Selenide.open(Fixtures.resolve(originUrl));
+                    snapshot.restoreInto(WebDriverRunner.getWebDriver());
+                    if (isAuthenticated.getAsBoolean()) {
+                        logger.info("Restored session '{}' from snapshot", key);
+                        return true;
+                    }
+                } catch (WebDriverException e) {
+                    logger.info("Failed to restore session '{}': {}", key, e.getMessage());
+                }
+                invalidate(key);
+            }
+
+            logger.info("Logging in for session '{}'", key);
+            login.run();
+            store(key, SessionSnapshot.capture(WebDriverRunner.getWebDriver()));
+            return false;
+        }
+    }
+
+    /**
+     * Удаляет снимок сессии из памяти и с диска.
+     *
+     * @param key ключ набора учётных данных.
+     */
+    public void invalidate(String key) {
+        snapshots.remove(key);
+        try {
+            Files.deleteIfExists(file(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось удалить снимок сессии " + key, e);
+        }
+    }
+
+    private SessionSnapshot load(String key) {
+        SessionSnapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            Path file = file(key);
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try {
+                Map<String, Object> map = json.toType(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                snapshot = map == null ? null : SessionSnapshot.fromMap(map);
+            } catch (IOException | JsonException | ClassCastException e) {
+                logger.info("Ignoring unreadable session snapshot {}: {}", file, e.getMessage());
+                return null;
+            }
+            if (snapshot == null) {
+                logger.info("Ignoring incomplete session snapshot {}", file);
+                return null;
+            }
+        }
+        if (!snapshot.isFresh(ttlMillis)) {
+            logger.info("Session snapshot '{}' is stale", key);
+            invalidate(key);
+            return null;
+        }
+        snapshots.put(key, snapshot);
+        return snapshot;
+    }
+
+    private void store(String key, SessionSnapshot snapshot) {
+        snapshots.put(key, snapshot);
+        Path file = file(key);
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "session", ".tmp");
+            Files.write(temp, json.toJson(snapshot.toMap()).getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось сохранить снимок сессии " + key, e);
+        }
+    }
+
+    private Path file(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder name = new StringBuilder();
+            for (int i = 0; i < 16; i++) {
+                name.append(String.format("%02x", hash[i]));
+            }
+            return directory.resolve(name.append(".json").toString());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package session;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс {@code SessionSnapshot} — снимок авторизованной сессии браузера:
+ * cookies, содержимое {@code localStorage} и {@code sessionStorage} и время создания снимка.
+ * <p>
+ * Снимок снимается после успешного входа ({@link #capture(WebDriver)}) и восстанавливается
+ * в новом браузере ({@link #restoreInto(WebDriver)}), что позволяет не проходить форму входа повторно.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class SessionSnapshot {
+    private static final String READ_STORAGE_SCRIPT =
+            "var dump = function (s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; };"
+                    + "return { local: dump(window.localStorage), session: dump(window.sessionStorage) };";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "var d = arguments[0];"
+                    + "Object.keys(d.local).forEach(function (k) { window.localStorage.setItem(k, d.local[k]); });"
+                    + "Object.keys(d.session).forEach(function (k) { window.sessionStorage.setItem(k, d.session[k]); });";
+
+    private final List<Map<String, Object>> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+    private final long createdAt;
+
+    private SessionSnapshot(List<Map<String, Object>> cookies, Map<String, String> localStorage,
+                            Map<String, String> sessionStorage, long createdAt) {
+        this.cookies = cookies;
+        this.localStorage = localStorage;
+        this.sessionStorage = sessionStorage;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Снимает состояние текущей страницы браузера.
+     *
+     * @param driver драйвер с авторизованной сессией.
+     * @return снимок сессии.
+     */
+    @SuppressWarnings("unchecked")
+    public static SessionSnapshot capture(WebDriver driver) {
+        List<Map<String, Object>> cookies = new ArrayList<>();
+        for (Cookie cookie : driver.manage().getCookies()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("name", cookie.getName());
+            map.put("value", cookie.getValue());
+            map.put("domain", cookie.getDomain());
+            map.put("path", cookie.getPath());
+            map.put("secure", cookie.isSecure());
+            map.put("httpOnly", cookie.isHttpOnly());
+            if (cookie.getSameSite() != null) {
+                map.put("sameSite", cookie.getSameSite());
+            }
+            if (cookie.getExpiry() != null) {
+                map.put("expiry", cookie.getExpiry().getTime());
+            }
+            cookies.add(map);
+        }
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(cookies,
+                toStringMap((Map<String, Object>) storage.get("local")),
+                toStringMap((Map<String, Object>) storage.get("session")),
+                System.currentTimeMillis());
+    }
+
+    /**
+     * Восстанавливает снимок в браузер. Браузер уже должен находиться на странице того же домена,
+     * иначе cookies и хранилища не будут приняты.
+     *
+     * @param driver драйвер новой сессии.
+     */
+    public void restoreInto(WebDriver driver) {
+        for (Map<String, Object> map : cookies) {
+            Cookie.Builder builder = new Cookie.Builder((String) map.get("name"), (String) map.get("value"))
+                    .domain((String) map.get("domain"))
+                    .path((String) map.get("path"))
+                    .isSecure(Boolean.TRUE.equals(map.get("secure")))
+                    .isHttpOnly(Boolean.TRUE.equals(map.get("httpOnly")));
+            if (map.get("sameSite") != null) {
+                builder.sameSite((String) map.get("sameSite"));
+            }
+            if (map.get("expiry") != null) {
+                builder.expiresOn(new Date(((Number) map.get("expiry")).longValue()));
+            }
+            driver.manage().addCookie(builder.build());
+        }
+        Map<String, Object> storage = new HashMap<>();
+        storage.put("local", localStorage);
+        storage.put("session", sessionStorage);
+        ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, storage);
+    }
+
+    /**
+     * Проверяет, что снимок ещё можно использовать: не истёк срок жизни снимка
+     * и ни одна из сохранённых cookies не просрочена.
+     *
+     * @param ttlMillis срок жизни снимка в миллисекундах.
+     * @return {@code true}, если снимок актуален.
+     */
+    public boolean isFresh(long ttlMillis) {
+        long now = System.currentTimeMillis();
+        if (now - createdAt > ttlMillis) {
+            return false;
+        }
+        for (Map<String, Object> cookie : cookies) {
+            Object expiry = cookie.get("expiry");
+            if (expiry != null && ((Number) expiry).longValue() <= now) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Время создания снимка.
+     *
+     * @return время в миллисекундах с начала эпохи.
+     */
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Преобразует снимок в структуру для сохранения в JSON.
+     *
+     * @return карта с данными снимка.
+     */
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("createdAt", createdAt);
+        map.put("cookies", cookies);
+        map.put("localStorage", localStorage);
+        map.put("sessionStorage", sessionStorage);
+        return map;
+    }
+
+    /**
+     * Восстанавливает снимок из структуры, прочитанной из JSON. Файл снимка мог быть записан другой версией
+     * фреймворка или повреждён, поэтому снимок без времени создания, без списка cookies или с cookie без имени
+     * и значения не восстанавливается.
+     *
+     * @param map карта с данными снимка.
+     * @return снимок сессии или {@code null}, если обязательные поля отсутствуют или не разбираются.
+     */
+    @SuppressWarnings("unchecked")
+    static SessionSnapshot fromMap(Map<String, Object> map) {
+        Object createdAt = map.get("createdAt");
+        Object cookies = map.get("cookies");
+        if (!(createdAt instanceof Number) || !(cookies instanceof List)) {
+            return null;
+        }
+        for (Object cookie : (List<Object>) cookies) {
+            if (!(cookie instanceof Map)
+                    || !(((Map<String, Object>) cookie).get("name") instanceof String)
+                    || !(((Map<String, Object>) cookie).get("value") instanceof String)) {
+                return null;
+            }
+            Object expiry = ((Map<String, Object>) cookie).get("expiry");
+            if (expiry != null && !(expiry instanceof Number)) {
+                return null;
+            }
+        }
+        return new SessionSnapshot(
+                (List<Map<String, Object>>) cookies,
+                toStringMap((Map<String, Object>) map.get("localStorage")),
+                toStringMap((Map<String, Object>) map.get("sessionStorage")),
+                ((Number) createdAt).longValue());
+    }
+
+    private static Map<String, String> toStringMap(Map<String, Object> source) {
+        Map<String, String> result = new LinkedHashMap<>();
+        if (source != null) {
+            source.forEach((key, value) -> result.put(key, value == null ? null : String.valueOf(value)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,216 @@
+package shard;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Класс {@code DurationStore} хранит длительность тестовых методов, по которой {@link ShardPlanner}
+ * делит тесты на сегменты.
+ * <p>
+ * Длительности берутся из результатов Allure ({@code start}/{@code stop} в {@code *-result.json}) или из файла
+ * свойств {@code <uniqueId>=<мс>}, который можно сохранить в репозитории, чтобы узлам CI не нужна была
+ * история Allure:
+ * <pre>{@code
+ * java -cp ... shard.DurationStore allure-results test-durations.properties
+ * }</pre>
+ * Ключ — идентификатор JUnit Platform тестового метода; вызовы параметризованных тестов суммируются
+ * в длительность метода, повторные прогоны одного вызова усредняются.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class DurationStore {
+    private static final Logger logger = LoggerFactory.getLogger(DurationStore.class);
+
+    private final Map<String, Long> durations;
+
+    private DurationStore(Map<String, Long> durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * @return пустое хранилище.
+     */
+    public static DurationStore empty() {
+        return new DurationStore(new TreeMap<>());
+    }
+
+    /**
+     * Читает длительности из файла свойств и каталогов результатов Allure. Отсутствующие источники пропускаются;
+     * значения из Allure (более свежие) перекрывают значения из файла.
+     *
+     * @param file           файл свойств или {@code null}.
+     * @param allureResults  каталоги результатов Allure.
+     * @return хранилище длительностей.
+     */
+    public static DurationStore load(Path file, List<Path> allureResults) {
+        Map<String, Long> result = new TreeMap<>();
+        if (file != null && Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Ошибка чтения " + file, e);
+            }
+            for (String key : properties.stringPropertyNames()) {
+                try {
+                    result.put(key, Long.parseLong(properties.getProperty(key).trim()));
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring duration {}={} in {}", key, properties.getProperty(key), file);
+                }
+            }
+        }
+        for (Path directory : allureResults) {
+            result.putAll(fromAllure(directory));
+        }
+        return new DurationStore(result);
+    }
+
+    /**
+     * Возвращает длительность тестового метода.
+     *
+     * @param uniqueId идентификатор JUnit Platform.
+     * @return длительность в миллисекундах или {@code null}, если тест ещё не запускался.
+     */
+    public Long durationMillis(String uniqueId) {
+        return durations.get(uniqueId);
+    }
+
+    /**
+     * @return средняя длительность известных тестов или {@code fallback}, если хранилище пусто.
+     */
+    long meanMillis(long fallback) {
+        if (durations.isEmpty()) {
+            return fallback;
+        }
+        long sum = 0;
+        for (long value : durations.values()) {
+            sum += value;
+        }
+        return sum / durations.size();
+    }
+
+    /**
+     * @return количество известных тестов.
+     */
+    public int size() {
+        return durations.size();
+    }
+
+    /**
+     * Сохраняет длительности в файл свойств.
+     *
+     * @param file файл.
+     * @throws IOException если файл не удалось записать.
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Long> entry : durations.entrySet()) {
+                writer.write(escape(entry.getKey()) + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    /**
+     * Сохраняет длительности из результатов Allure в файл свойств.
+     *
+     * @param args каталог результатов Allure и файл свойств.
+     * @throws IOException если файл не удалось записать.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Использование: DurationStore <allure-results> <test-durations.properties>");
+        }
+        DurationStore store = load(null, List.of(Paths.get(args[0])));
+        store.save(Paths.get(args[1]));
+        logger.info("Saved {} test durations to {}", store.size(), args[1]);
+    }
+
+    private static Map<String, Long> fromAllure(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return new HashMap<>();
+        }
+        Json json = new Json();
+        Map<String, String> methodByHistory = new HashMap<>();
+        Map<String, List<Long>> runsByHistory = new HashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*-result.json")) {
+            for (Path file : files) {
+                Map<String, Object> result;
+                try {
+                    result = json.toType(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                } catch (JsonException e) {
+                    logger.debug("Skipping unreadable Allure result {}", file);
+                    continue;
+                }
+                Object testCaseId = result.get("testCaseId");
+                Object start = result.get("start");
+                Object stop = result.get("stop");
+                if (!(testCaseId instanceof String) || !(start instanceof Number) || !(stop instanceof Number)) {
+                    continue;
+                }
+                String history = String.valueOf(result.getOrDefault("historyId", testCaseId));
+                methodByHistory.put(history, methodId((String) testCaseId));
+                runsByHistory.computeIfAbsent(history, h -> new ArrayList<>())
+                        .add(((Number) stop).longValue() - ((Number) start).longValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Ошибка чтения " + directory, e);
+        }
+
+        Map<String, Long> result = new HashMap<>();
+        for (Map.Entry<String, List<Long>> entry : runsByHistory.entrySet()) {
+            long sum = 0;
+            for (long value : entry.getValue()) {
+                sum += value;
+            }
+            result.merge(methodByHistory.get(entry.getKey()), sum / entry.getValue().size(), Long::sum);
+        }
+        return result;
+    }
+
+    /**
+     * Отбрасывает от идентификатора вызова параметризованного теста всё после сегмента метода.
+     */
+    static String methodId(String uniqueId) {
+        int method = uniqueId.indexOf("/[test-template:");
+        if (method < 0) {
+            method = uniqueId.indexOf("/[test-factory:");
+        }
+        if (method < 0) {
+            return uniqueId;
+        }
+        int end = uniqueId.indexOf('/', method + 1);
+        return end < 0 ? uniqueId : uniqueId.substring(0, end);
+    }
+
+    private static String escape(String key) {
+        StringBuilder out = new StringBuilder(key.length());
+        for (char c : key.toCharArray()) {
+            if (c == ':' || c == '=' || c == ' ' || c == '#' || c == '!' || c == '\\') {
+                out.append('\\');
+            }
+            out.append(c);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,146 @@
+package shard;
+
+import config.FrameworkConfig;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TagFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Фильтр JUnit Platform, оставляющий в прогоне только тесты сегмента текущего узла CI.
+ * <p>
+ * Регистрируется автоматически через {@code META-INF/services} и включается свойствами
+ * {@code framework.shard.total} (количество сегментов) и {@code framework.shard.index} (номер сегмента с нуля):
+ * <pre>{@code
+ * mvn test -Dgroups=hh -Dframework.shard.total=4 -Dframework.shard.index=2
+ * }</pre>
+ * Фильтр видит все найденные тесты, в том числе те, которые исключат другие фильтры запуска. Поэтому
+ * перед планированием он сам отбрасывает методы, не подходящие под теги Surefire {@code -Dgroups}
+ * и {@code -DexcludedGroups}, делит оставшиеся {@link ShardPlanner} по длительностям из {@link DurationStore}
+ * и исключает тестовые методы других сегментов. Другие фильтры (например, {@code -Dtest}) при планировании
+ * не учитываются: исключённые ими методы всё равно занимают место в своём сегменте. Источники длительностей:
+ * {@code framework.shard.durations} (по умолчанию {@code test-durations.properties}) и
+ * {@code framework.shard.allureResults} (по умолчанию {@code allure-results}) относительно каталога модуля.
+ * Все узлы должны использовать одинаковые длительности, иначе их планы разойдутся.
+ *
+ * @author Хабибуллина Алина
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+    private static final Logger logger = LoggerFactory.getLogger(ShardFilter.class);
+
+    private final int total;
+    private final int index;
+    private final Filter<TestDescriptor> tags;
+    private TestDescriptor plannedRoot;
+    private ShardPlanner.Plan plan;
+
+    /**
+     * Создаёт фильтр по настройкам {@link FrameworkConfig}.
+     */
+    public ShardFilter() {
+        this(FrameworkConfig.get().getInt("framework.shard.total", 1),
+                FrameworkConfig.get().getInt("framework.shard.index", 0),
+                tagFilter(FrameworkConfig.get().getString("groups", ""),
+                        FrameworkConfig.get().getString("excludedGroups", "")));
+    }
+
+    ShardFilter(int total, int index, Filter<TestDescriptor> tags) {
+        if (total < 1 || index < 0 || index >= total) {
+            throw new IllegalArgumentException("Неверный сегмент " + index + " из " + total);
+        }
+        this.total = total;
+        this.index = index;
+        this.tags = tags;
+    }
+
+    @Override
+    public synchronized FilterResult apply(TestDescriptor descriptor) {
+        if (total == 1 || !isMethod(descriptor)) {
+            return FilterResult.included("sharding is not applicable");
+        }
+        TestDescriptor root = root(descriptor);
+        if (root != plannedRoot) {
+            plannedRoot = root;
+            plan = plan(root);
+        }
+        int shard = plan.shardOf(descriptor.getUniqueId().toString());
+        return shard == index || shard < 0
+                ? FilterResult.included("shard " + index + " of " + total)
+                : FilterResult.excluded("belongs to shard " + shard + " of " + total);
+    }
+
+    private ShardPlanner.Plan plan(TestDescriptor root) {
+        List<String> methods = new ArrayList<>();
+        for (TestDescriptor descendant : root.getDescendants()) {
+            if (isMethod(descendant) && tags.apply(descendant).included()) {
+                methods.add(descendant.getUniqueId().toString());
+            }
+        }
+        Collections.sort(methods);
+        FrameworkConfig config = FrameworkConfig.get();
+        DurationStore durations = DurationStore.load(
+                Paths.get(config.getString("framework.shard.durations", "test-durations.properties")),
+                Collections.singletonList(Paths.get(config.getString("framework.shard.allureResults", "allure-results"))));
+        ShardPlanner.Plan result = new ShardPlanner(durations).plan(methods, total);
+        logger.info("Shard {} of {}: {} of {} test methods, ~{} s (known durations: {})", index, total,
+                result.size(index), methods.size(), result.totalMillis(index) / 1000, durations.size());
+        return result;
+    }
+
+    /**
+     * Фильтр тегов в том виде, в каком Surefire передаёт {@code groups} и {@code excludedGroups} в JUnit Platform:
+     * выражения тегов через запятую.
+     */
+    static Filter<TestDescriptor> tagFilter(String groups, String excludedGroups) {
+        List<Filter<TestDescriptor>> filters = new ArrayList<>();
+        List<String> included = expressions(groups);
+        if (!included.isEmpty()) {
+            filters.add(TagFilter.includeTags(included));
+        }
+        List<String> excluded = expressions(excludedGroups);
+        if (!excluded.isEmpty()) {
+            filters.add(TagFilter.excludeTags(excluded));
+        }
+        return Filter.composeFilters(filters);
+    }
+
+    private static List<String> expressions(String value) {
+        List<String> result = new ArrayList<>();
+        for (String expression : value.split(",")) {
+            if (!expression.trim().isEmpty()) {
+                result.add(expression.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Тестовый метод — дескриптор метода, не вложенный в другой метод (вызовы параметризованных тестов
+     * относятся к своему методу).
+     */
+    private static boolean isMethod(TestDescriptor descriptor) {
+        return isMethodSource(descriptor)
+                && !descriptor.getParent().filter(ShardFilter::isMethodSource).isPresent();
+    }
+
+    private static boolean isMethodSource(TestDescriptor descriptor) {
+        return descriptor.getSource().filter(MethodSource.class::isInstance).isPresent();
+    }
+
+    private static TestDescriptor root(TestDescriptor descriptor) {
+        TestDescriptor current = descriptor;
+        while (current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,122 @@
+package shard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Класс {@code ShardPlanner} делит тестовые методы на сегменты с примерно равной суммарной длительностью.
+ * <p>
+ * Используется жадный алгоритм LPT: методы сортируются по убыванию длительности из {@link DurationStore}
+ * и по очереди отдаются наименее загруженному сегменту. Для методов без истории берётся средняя длительность
+ * известных тестов. Результат детерминирован (при равенстве — порядок идентификаторов), поэтому
+ * все узлы CI независимо получают одинаковый план.
+ *
+ * @author Хабибуллина Алина
+ */
+public final class ShardPlanner {
+    private static final long DEFAULT_MILLIS = 10_000;
+
+    private final DurationStore durations;
+
+    /**
+     * Создаёт планировщик.
+     *
+     * @param durations длительности тестов.
+     */
+    public ShardPlanner(DurationStore durations) {
+        this.durations = durations;
+    }
+
+    /**
+     * Распределяет тесты по сегментам.
+     *
+     * @param uniqueIds идентификаторы тестовых методов.
+     * @param shards    количество сегментов.
+     * @return план распределения.
+     */
+    public Plan plan(Collection<String> uniqueIds, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Количество сегментов должно быть положительным: " + shards);
+        }
+        long fallback = durations.meanMillis(DEFAULT_MILLIS);
+        List<String> ordered = new ArrayList<>(uniqueIds);
+        Map<String, Long> estimates = new HashMap<>();
+        for (String id : ordered) {
+            Long known = durations.durationMillis(id);
+            estimates.put(id, known == null ? fallback : known);
+        }
+        ordered.sort(Comparator.<String>comparingLong(estimates::get).reversed().thenComparing(Comparator.naturalOrder()));
+
+        long[] totals = new long[shards];
+        PriorityQueue<Integer> least = new PriorityQueue<>(shards,
+                Comparator.<Integer>comparingLong(shard -> totals[shard]).thenComparingInt(shard -> shard));
+        for (int shard = 0; shard < shards; shard++) {
+            least.add(shard);
+        }
+        Map<String, Integer> assignment = new HashMap<>();
+        for (String id : ordered) {
+            int shard = least.poll();
+            assignment.put(id, shard);
+            totals[shard] += estimates.get(id);
+            least.add(shard);
+        }
+        return new Plan(assignment, totals);
+    }
+
+    /**
+     * План распределения тестов по сегментам.
+     */
+    public static final class Plan {
+        private final Map<String, Integer> assignment;
+        private final long[] totals;
+
+        Plan(Map<String, Integer> assignment, long[] totals) {
+            this.assignment = Collections.unmodifiableMap(assignment);
+            this.totals = totals;
+        }
+
+        /**
+         * @param uniqueId идентификатор тестового метода.
+         * @return номер сегмента (с нуля) или {@code -1}, если тест не планировался.
+         */
+        public int shardOf(String uniqueId) {
+            Integer shard = assignment.get(uniqueId);
+            return shard == null ? -1 : shard;
+        }
+
+        /**
+         * @param shard номер сегмента.
+         * @return ожидаемая длительность сегмента в миллисекундах.
+         */
+        public long totalMillis(int shard) {
+            return totals[shard];
+        }
+
+        /**
+         * @param shard номер сегмента.
+         * @return количество тестов в сегменте.
+         */
+        public int size(int shard) {
+            int count = 0;
+            for (int value : assignment.values()) {
+                if (value == shard) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * @return количество сегментов.
+         */
+        public int shards() {
+            return totals.length;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package warmup;
+
+import basePage.BasePage;
+import basePage.Pages;
+import com.codeborne.selenide.WebDriverRunner;
+import config.FrameworkConfig;
+import driver.DriverPool;
+import driver.SessionLimiter;
+import metrics.StepMetrics;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Класс {@code Pipeline} хранит порядок тестов прогона и браузер, подготавливаемый для следующего теста.
+ * <p>
+ * Подготовка выполняется в одном фоновом потоке; одновременно готовится не больше одного браузера.
+ * Если задано ограничение {@code framework.driver.sessions}, подготовка занимает место в {@link SessionLimiter}
+ * без ожидания (нет свободного места — браузер не готовится) и передаёт его тесту вместе с браузером.
+ *
+ * @author Хабибуллина Алина
+ */
+final class Pipeline {
+    private static final Logger logger = LoggerFactory.getLogger(Pipeline.class);
+
+    /**
+     * Признак включения подготовки ({@code framework.warmup.enabled}, по умолчанию {@code true}).
+     */
+    static final boolean ENABLED = FrameworkConfig.get().getBoolean("framework.warmup.enabled", true);
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "warm-up");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile List<String> ids = Collections.emptyList();
+    private static volatile List<MethodSource> sources = Collections.emptyList();
+    private static Future<Warmed> pending;
+
+    private Pipeline() {
+    }
+
+    /**
+     * Запоминает порядок тестовых методов прогона.
+     *
+     * @param methodIds     идентификаторы тестовых методов в порядке выполнения.
+     * @param methodSources источники тех же методов.
+     */
+    static void plan(List<String> methodIds, List<MethodSource> methodSources) {
+        sources = new ArrayList<>(methodSources);
+        ids = new ArrayList<>(methodIds);
+    }
+
+    /**
+     * Начинает подготовку браузера для теста, следующего за заданным, если тот отмечен {@link WarmUp}.
+     *
+     * @param uniqueId идентификатор завершающегося теста.
+     */
+    static void prepareAfter(String uniqueId) {
+        List<String> order = ids;
+        int index = order.indexOf(uniqueId);
+        if (index < 0 || index + 1 >= order.size()) {
+            return;
+        }
+        MethodSource next = sources.get(index + 1);
+        Optional<WarmUp> warmUp = annotation(next);
+        if (!warmUp.isPresent()) {
+            return;
+        }
+        synchronized (Pipeline.class) {
+            if (pending != null) {
+                return;
+            }
+            Class<? extends BasePage> page = warmUp.get().value();
+            logger.debug("Warming up browser for {}.{} ({})", next.getClassName(), next.getMethodName(),
+                    page.getSimpleName());
+            pending = EXECUTOR.submit(() -> warm(page));
+        }
+    }
+
+    /**
+     * Забирает подготовленный браузер, дожидаясь окончания подготовки.
+     *
+     * @return подготовленный браузер или {@code null}, если подготовки не было или она не удалась.
+     */
+    static Warmed claim() {
+        Future<Warmed> future;
+        synchronized (Pipeline.class) {
+            future = pending;
+            pending = null;
+        }
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            logger.info("Browser warm-up failed: {}", e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    /**
+     * Закрывает браузер, подготовленный для теста, который так и не запустился.
+     */
+    static void discard() {
+        Warmed warmed = claim();
+        if (warmed != null) {
+            warmed.close();
+        }
+    }
+
+    private static Warmed warm(Class<? extends BasePage> page) {
+        boolean permit = SessionLimiter.limit() > 0;
+        if (permit && !SessionLimiter.tryAcquire()) {
+            logger.debug("No free browser session slot, skipping warm-up of {}", page.getSimpleName());
+            return null;
+        }
+        long started = System.nanoTime();
+        try {
+            DriverPool.shared().acquire();
+            String url = null;
+            if (page == BasePage.class) {
+                WebDriverRunner.getAndCheckWebDriver();
+            } else {
+                url = Pages.get(page).preload();
+            }
+            return new Warmed(DriverPool.shared().detach(), url, permit);
+        } catch (RuntimeException e) {
+            DriverPool.shared().release(true);
+            if (permit) {
+                SessionLimiter.release();
+            }
+            throw e;
+        } finally {
+            Pages.clear();
+            StepMetrics.record("warmUp", null, System.nanoTime() - started);
+        }
+    }
+
+    private static Optional<WarmUp> annotation(MethodSource source) {
+        try {
+            Optional<WarmUp> onMethod = AnnotationSupport.findAnnotation(source.getJavaMethod(), WarmUp.class);
+            return onMethod.isPresent() ? onMethod : AnnotationSupport.findAnnotation(source.getJavaClass(), WarmUp.class);
+        } catch (RuntimeException e) {
+            logger.debug("Cannot resolve test method {}: {}", source, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Подготовленный браузер, адрес открытой в нём страницы и признак занятого для него места в {@link SessionLimiter}.
+     */
+    static final class Warmed {
+        final DriverPool.Detached session;
+        final String url;
+        final boolean permit;
+
+        private Warmed(DriverPool.Detached session, String url, boolean permit) {
+            this.session = session;
+            this.url = url;
+            this.permit = permit;
+        }
+
+        /**
+         * Закрывает браузер, который не понадобился, и освобождает занятое для него место.
+         */
+        void close() {
+            if (session != null) {
+                session.quit();
+            }
+            if (permit) {
+                SessionLimiter.release();
+            }
+        }
+    }
+}
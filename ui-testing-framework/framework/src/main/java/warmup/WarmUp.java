@@ -0,0 +1,39 @@
+package warmup;
+
+import basePage.BasePage;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Аннотация {@code WarmUp} разрешает подготовить браузер для теста заранее, пока завершается предыдущий тест.
+ * <p>
+ * Браузер запускается (или берётся из пула) в фоновом потоке, и в нём открывается первая страница теста.
+ * Когда тест вызовет {@code openPage()} этой страницы, переход будет пропущен — останется только дождаться
+ * её готовности:
+ * <pre>{@code
+ * @Test
+ * @WarmUp(MainPageHH.class)
+ * public void searchTest() {
+ *     MainPageHH mainPage = new MainPageHH();
+ *     mainPage.openPage();
+ *     ...
+ * }
+ * }</pre>
+ * Без параметра заранее только запускается браузер. Аннотация на классе действует на все его тесты и тесты подклассов.
+ * Подготовкой занимается {@link WarmUpExtension}.
+ *
+ * @author Хабибуллина Алина
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface WarmUp {
+    /**
+     * @return первая страница, которую открывает тест; {@code BasePage.class} — только запустить браузер.
+     */
+    Class<? extends BasePage> value() default BasePage.class;
+}
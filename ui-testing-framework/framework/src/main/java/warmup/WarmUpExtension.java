@@ -0,0 +1,72 @@
+package warmup;
+
+import com.codeborne.selenide.WebDriverRunner;
+import components.Navigation;
+import driver.DriverPool;
+import driver.DriverPoolExtension;
+import driver.SharedBrowser;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import runner.VirtualThreadRunner;
+
+/**
+ * JUnit 5 расширение {@code WarmUpExtension} готовит браузер следующего теста, пока завершается текущий.
+ * <p>
+ * Сразу после тела теста, до {@code @AfterEach} и возврата браузера в пул, расширение проверяет,
+ * отмечен ли следующий тест прогона аннотацией {@link WarmUp}, и в фоновом потоке берёт для него браузер
+ * из пула или запускает новый и открывает первую страницу теста. Перед следующим тестом подготовленный
+ * браузер привязывается к его потоку. Расширение должно стоять в списке раньше {@code DriverPoolExtension}:
+ * <pre>{@code
+ * @ExtendWith({WarmUpExtension.class, DriverPoolExtension.class, TestContextExtension.class})
+ * public class BaseHHTest { ... }
+ * }</pre>
+ * Порядок тестов берётся из плана прогона ({@link WarmUpListener}), поэтому подготовка выполняется только
+ * при последовательном запуске: она отключена при параллельном запуске JUnit, в {@link VirtualThreadRunner}
+ * и с {@link SharedBrowser}. Пока тест выполняется, заранее запущенный браузер занимает ещё одну сессию;
+ * при ограничении {@code framework.driver.sessions} — и ещё одно место в {@link SessionLimiter}, которое
+ * передаётся следующему тесту ({@link DriverPoolExtension#adoptPermit}).
+ * Отключение: {@code -Dframework.warmup.enabled=false}.
+ *
+ * @author Хабибуллина Алина
+ */
+public class WarmUpExtension implements BeforeEachCallback, AfterTestExecutionCallback {
+    private static final Logger logger = LoggerFactory.getLogger(WarmUpExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        Pipeline.Warmed warmed = Pipeline.claim();
+        if (warmed == null) {
+            return;
+        }
+        if (warmed.session == null || WebDriverRunner.hasWebDriverStarted()) {
+            warmed.close();
+            return;
+        }
+        if (warmed.permit) {
+            DriverPoolExtension.adoptPermit(context);
+        }
+        DriverPool.shared().attach(warmed.session);
+        if (warmed.url != null) {
+            Navigation.preloaded(warmed.url);
+        }
+        logger.debug("Using warmed-up browser{}", warmed.url == null ? "" : " at " + warmed.url);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (!Pipeline.ENABLED || SharedBrowser.shared().isEnabled() || VirtualThreadRunner.isActive()
+                || parallel(context)) {
+            return;
+        }
+        Pipeline.prepareAfter(context.getUniqueId());
+    }
+
+    private static boolean parallel(ExtensionContext context) {
+        return context.getConfigurationParameter("junit.jupiter.execution.parallel.enabled")
+                .map(Boolean::parseBoolean)
+                .orElse(false);
+    }
+}
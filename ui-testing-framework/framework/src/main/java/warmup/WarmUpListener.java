@@ -0,0 +1,53 @@
+package warmup;
+
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Слушатель JUnit Platform, передающий {@link WarmUpExtension} порядок тестовых методов прогона.
+ * <p>
+ * Регистрируется автоматически через {@code META-INF/services}. После прогона закрывает браузер,
+ * подготовленный для теста, который так и не был запущен.
+ *
+ * @author Хабибуллина Алина
+ */
+public class WarmUpListener implements TestExecutionListener {
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (!Pipeline.ENABLED) {
+            return;
+        }
+        List<String> ids = new ArrayList<>();
+        List<MethodSource> sources = new ArrayList<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            collect(testPlan, root, ids, sources);
+        }
+        Pipeline.plan(ids, sources);
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        Pipeline.discard();
+    }
+
+    private static void collect(TestPlan plan, TestIdentifier identifier, List<String> ids, List<MethodSource> sources) {
+        MethodSource method = identifier.getSource()
+                .filter(MethodSource.class::isInstance)
+                .map(MethodSource.class::cast)
+                .orElse(null);
+        if (method != null) {
+            ids.add(identifier.getUniqueId());
+            sources.add(method);
+            return;
+        }
+        for (TestIdentifier child : plan.getChildren(identifier)) {
+            collect(plan, child, ids, sources);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package session;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SessionSnapshotTest {
+
+    private static final long TTL = 60_000L;
+
+    @Test
+    public void restoresSnapshotFromSavedMap() {
+        long now = System.currentTimeMillis();
+        SessionSnapshot snapshot = SessionSnapshot.fromMap(snapshot(now, cookie("sid", now + TTL)));
+
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.getCreatedAt()).isEqualTo(now);
+        assertThat(snapshot.isFresh(TTL)).isTrue();
+        assertThat(SessionSnapshot.fromMap(snapshot.toMap()).getCreatedAt()).isEqualTo(now);
+    }
+
+    @Test
+    public void snapshotOlderThanTtlIsStale() {
+        long created = System.currentTimeMillis() - TTL - 1_000L;
+
+        assertThat(SessionSnapshot.fromMap(snapshot(created, cookie("sid", null))).isFresh(TTL)).isFalse();
+    }
+
+    @Test
+    public void snapshotWithExpiredCookieIsStale() {
+        long now = System.currentTimeMillis();
+
+        assertThat(SessionSnapshot.fromMap(snapshot(now, cookie("sid", now - 1_000L))).isFresh(TTL)).isFalse();
+    }
+
+    @Test
+    public void missingCreatedAtMeansNoSnapshot() {
+        Map<String, Object> map = snapshot(System.currentTimeMillis(), cookie("sid", null));
+        map.remove("createdAt");
+
+        assertThat(SessionSnapshot.fromMap(map)).isNull();
+    }
+
+    @Test
+    public void unparsableCreatedAtMeansNoSnapshot() {
+        Map<String, Object> map = snapshot(System.currentTimeMillis(), cookie("sid", null));
+        map.put("createdAt", "yesterday");
+
+        assertThat(SessionSnapshot.fromMap(map)).isNull();
+    }
+
+    @Test
+    public void missingCookiesMeanNoSnapshot() {
+        Map<String, Object> map = snapshot(System.currentTimeMillis());
+        map.remove("cookies");
+
+        assertThat(SessionSnapshot.fromMap(map)).isNull();
+    }
+
+    @Test
+    public void cookieWithoutValueMeansNoSnapshot() {
+        Map<String, Object> cookie = cookie("sid", null);
+        cookie.remove("value");
+
+        assertThat(SessionSnapshot.fromMap(snapshot(System.currentTimeMillis(), cookie))).isNull();
+    }
+
+    @Test
+    public void missingStorageIsRestoredEmpty() {
+        Map<String, Object> map = snapshot(System.currentTimeMillis(), cookie("sid", null));
+        map.remove("localStorage");
+        map.remove("sessionStorage");
+
+        SessionSnapshot snapshot = SessionSnapshot.fromMap(map);
+
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.toMap().get("localStorage")).isEqualTo(Collections.emptyMap());
+    }
+
+    @SafeVarargs
+    private static Map<String, Object> snapshot(long createdAt, Map<String, Object>... cookies) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        Collections.addAll(list, cookies);
+        Map<String, Object> map = new HashMap<>();
+        map.put("createdAt", createdAt);
+        map.put("cookies", list);
+        map.put("localStorage", new HashMap<>(Map.of("token", "abc")));
+        map.put("sessionStorage", new HashMap<>());
+        return map;
+    }
+
+    private static Map<String, Object> cookie(String name, Long expiry) {
+        Map<String, Object> cookie = new HashMap<>();
+        cookie.put("name", name);
+        cookie.put("value", "value");
+        cookie.put("domain", "example.com");
+        cookie.put("path", "/");
+        if (expiry != null) {
+            cookie.put("expiry", expiry);
+        }
+        return cookie;
+    }
+}
@@ -0,0 +1,89 @@
+package shard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DurationStoreAllureTest {
+
+    private static final String CLASS = "[engine:junit-jupiter]/[class:org.example.tests.SearchHHTest]";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void averagesRunsOfOneTest() throws IOException {
+        String method = CLASS + "/[method:searchTest()]";
+        result("a", method, "h1", 1_000L, 2_000L);
+        result("b", method, "h1", 5_000L, 8_000L);
+
+        DurationStore store = load();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.durationMillis(method)).isEqualTo(2_000L);
+    }
+
+    @Test
+    public void sumsInvocationsOfParameterizedTest() throws IOException {
+        String method = CLASS + "/[test-template:search(java.lang.String)]";
+        result("a", method + "/[test-template-invocation:#1]", "h1", 0L, 1_000L);
+        result("b", method + "/[test-template-invocation:#2]", "h2", 0L, 3_000L);
+        result("c", method + "/[test-template-invocation:#2]", "h2", 0L, 5_000L);
+
+        DurationStore store = load();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.durationMillis(method)).isEqualTo(5_000L);
+    }
+
+    @Test
+    public void skipsIncompleteAndForeignFiles() throws IOException {
+        String method = CLASS + "/[method:searchTest()]";
+        result("a", method, "h1", 0L, 1_000L);
+        write("b-result.json", "{\"testCaseId\": \"" + CLASS + "/[method:other()]\", \"start\": 0}");
+        write("c-result.json", "not json");
+        write("d-container.json", "{\"testCaseId\": \"" + CLASS + "/[method:third()]\", \"start\": 0, \"stop\": 9}");
+
+        DurationStore store = load();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.durationMillis(method)).isEqualTo(1_000L);
+    }
+
+    @Test
+    public void allureResultsOverrideDurationFile() throws IOException {
+        String method = CLASS + "/[method:searchTest()]";
+        result("a", method, "h1", 0L, 4_000L);
+        Path file = directory.resolve("test-durations.properties");
+        Files.write(file, (method.replace(":", "\\:").replace("=", "\\=") + "=100\n").getBytes(StandardCharsets.UTF_8));
+
+        DurationStore store = DurationStore.load(file, List.of(directory));
+
+        assertThat(store.durationMillis(method)).isEqualTo(4_000L);
+    }
+
+    @Test
+    public void missingDirectoryGivesEmptyStore() {
+        assertThat(DurationStore.load(null, List.of(directory.resolve("absent"))).size()).isZero();
+    }
+
+    private DurationStore load() {
+        return DurationStore.load(null, List.of(directory));
+    }
+
+    private void result(String name, String testCaseId, String historyId, long start, long stop) throws IOException {
+        write(name + "-result.json", "{\"testCaseId\": \"" + testCaseId + "\", \"historyId\": \"" + historyId
+                + "\", \"start\": " + start + ", \"stop\": " + stop + "}");
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.write(directory.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
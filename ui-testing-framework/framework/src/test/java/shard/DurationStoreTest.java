@@ -0,0 +1,39 @@
+package shard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DurationStoreTest {
+
+    private static final String CLASS = "[engine:junit-jupiter]/[class:org.example.tests.SearchHHTest]";
+
+    @Test
+    public void methodIdKeepsPlainTestMethod() {
+        String id = CLASS + "/[method:searchTest()]";
+
+        assertThat(DurationStore.methodId(id)).isEqualTo(id);
+    }
+
+    @Test
+    public void methodIdDropsParameterizedInvocation() {
+        String method = CLASS + "/[test-template:search(java.lang.String)]";
+
+        assertThat(DurationStore.methodId(method + "/[test-template-invocation:#2]")).isEqualTo(method);
+    }
+
+    @Test
+    public void methodIdDropsDynamicTest() {
+        String method = CLASS + "/[test-factory:pages()]";
+
+        assertThat(DurationStore.methodId(method + "/[dynamic-test:#3]")).isEqualTo(method);
+        assertThat(DurationStore.methodId(method + "/[dynamic-container:#1]/[dynamic-test:#2]")).isEqualTo(method);
+    }
+
+    @Test
+    public void methodIdKeepsTemplateWithoutInvocation() {
+        String method = CLASS + "/[test-template:search(java.lang.String)]";
+
+        assertThat(DurationStore.methodId(method)).isEqualTo(method);
+    }
+}
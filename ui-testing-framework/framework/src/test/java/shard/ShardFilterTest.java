@@ -0,0 +1,91 @@
+package shard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ShardFilterTest {
+
+    @Test
+    public void noGroupsIncludesEverything() {
+        Filter<TestDescriptor> filter = ShardFilter.tagFilter("", "");
+
+        assertThat(included(filter)).isTrue();
+        assertThat(included(filter, "hh")).isTrue();
+    }
+
+    @Test
+    public void groupsSelectTaggedTests() {
+        Filter<TestDescriptor> filter = ShardFilter.tagFilter("hh", "");
+
+        assertThat(included(filter, "hh")).isTrue();
+        assertThat(included(filter, "leti")).isFalse();
+        assertThat(included(filter)).isFalse();
+    }
+
+    @Test
+    public void groupsAreCommaSeparated() {
+        Filter<TestDescriptor> filter = ShardFilter.tagFilter(" leti , moodle ", "");
+
+        assertThat(included(filter, "leti")).isTrue();
+        assertThat(included(filter, "moodle")).isTrue();
+        assertThat(included(filter, "hh")).isFalse();
+    }
+
+    @Test
+    public void excludedGroupsRemoveTests() {
+        Filter<TestDescriptor> filter = ShardFilter.tagFilter("hh", "slow");
+
+        assertThat(included(filter, "hh")).isTrue();
+        assertThat(included(filter, "hh", "slow")).isFalse();
+    }
+
+    @Test
+    public void excludedGroupsAloneKeepUntaggedTests() {
+        Filter<TestDescriptor> filter = ShardFilter.tagFilter("", "slow");
+
+        assertThat(included(filter)).isTrue();
+        assertThat(included(filter, "slow")).isFalse();
+    }
+
+    @Test
+    public void tagExpressionsAreSupported() {
+        Filter<TestDescriptor> filter = ShardFilter.tagFilter("hh & !slow", "");
+
+        assertThat(included(filter, "hh")).isTrue();
+        assertThat(included(filter, "hh", "slow")).isFalse();
+    }
+
+    private static boolean included(Filter<TestDescriptor> filter, String... tags) {
+        return filter.apply(new TaggedTest(tags)).included();
+    }
+
+    private static final class TaggedTest extends AbstractTestDescriptor {
+        private final Set<TestTag> tags = new LinkedHashSet<>();
+
+        TaggedTest(String... tags) {
+            super(UniqueId.forEngine("junit-jupiter").append("method", "test()"), "test()");
+            for (String tag : tags) {
+                this.tags.add(TestTag.create(tag));
+            }
+        }
+
+        @Override
+        public Type getType() {
+            return Type.TEST;
+        }
+
+        @Override
+        public Set<TestTag> getTags() {
+            return tags;
+        }
+    }
+}
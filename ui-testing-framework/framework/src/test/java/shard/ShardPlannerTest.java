@@ -0,0 +1,98 @@
+package shard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ShardPlannerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void longestTestsGoToLeastLoadedShard() throws IOException {
+        ShardPlanner.Plan plan = new ShardPlanner(durations("a", 8_000L, "b", 7_000L, "c", 6_000L, "d", 5_000L))
+                .plan(Arrays.asList("a", "b", "c", "d"), 2);
+
+        assertThat(plan.shards()).isEqualTo(2);
+        assertThat(plan.shardOf("a")).isEqualTo(0);
+        assertThat(plan.shardOf("b")).isEqualTo(1);
+        assertThat(plan.shardOf("c")).isEqualTo(1);
+        assertThat(plan.shardOf("d")).isEqualTo(0);
+        assertThat(plan.totalMillis(0)).isEqualTo(13_000L);
+        assertThat(plan.totalMillis(1)).isEqualTo(13_000L);
+        assertThat(plan.size(0)).isEqualTo(2);
+        assertThat(plan.size(1)).isEqualTo(2);
+    }
+
+    @Test
+    public void unknownTestsTakeMeanOfKnownDurations() throws IOException {
+        ShardPlanner.Plan plan = new ShardPlanner(durations("a", 10_000L, "b", 30_000L))
+                .plan(Arrays.asList("a", "b", "x"), 2);
+
+        assertThat(plan.shardOf("b")).isEqualTo(0);
+        assertThat(plan.shardOf("x")).isEqualTo(1);
+        assertThat(plan.shardOf("a")).isEqualTo(1);
+        assertThat(plan.totalMillis(0)).isEqualTo(30_000L);
+        assertThat(plan.totalMillis(1)).isEqualTo(30_000L);
+    }
+
+    @Test
+    public void planDoesNotDependOnInputOrder() {
+        ShardPlanner planner = new ShardPlanner(DurationStore.empty());
+        List<String> ids = Arrays.asList("m1", "m2", "m3", "m4", "m5");
+        List<String> reversed = Arrays.asList("m5", "m4", "m3", "m2", "m1");
+
+        ShardPlanner.Plan first = planner.plan(ids, 3);
+        ShardPlanner.Plan second = planner.plan(reversed, 3);
+
+        for (String id : ids) {
+            assertThat(second.shardOf(id)).isEqualTo(first.shardOf(id));
+        }
+        assertThat(first.totalMillis(0) + first.totalMillis(1) + first.totalMillis(2)).isEqualTo(50_000L);
+    }
+
+    @Test
+    public void unplannedTestHasNoShard() {
+        ShardPlanner.Plan plan = new ShardPlanner(DurationStore.empty()).plan(Collections.singletonList("a"), 2);
+
+        assertThat(plan.shardOf("b")).isEqualTo(-1);
+        assertThat(plan.size(1)).isZero();
+    }
+
+    @Test
+    public void shardCountMustBePositive() {
+        ShardPlanner planner = new ShardPlanner(DurationStore.empty());
+
+        assertThatThrownBy(() -> planner.plan(Collections.singletonList("a"), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DurationStore durations(Object... idsAndMillis) throws IOException {
+        Map<String, Long> values = new TreeMap<>();
+        for (int i = 0; i < idsAndMillis.length; i += 2) {
+            values.put((String) idsAndMillis[i], (Long) idsAndMillis[i + 1]);
+        }
+        Properties properties = new Properties();
+        values.forEach((id, millis) -> properties.setProperty(id, String.valueOf(millis)));
+        Path file = directory.resolve("test-durations.properties");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        }
+        return DurationStore.load(file, Collections.emptyList());
+    }
+}
@@ -1,13 +1,16 @@
 package pages;
 
 import basePage.BasePage;
-import com.codeborne.selenide.Selenide;
 import elem.CustomButton;
 import elements.Button;
 import elements.Link;
 import elements.TextInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import overlay.Overlay;
+
+import java.util.Collections;
+import java.util.List;
 
 public class MainPageHH extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(MainPageHH.class);
@@ -21,7 +24,12 @@ public class MainPageHH extends BasePage {
 
     public MainPageHH() {
         super("https://spb.hh.ru/?hhtmFrom=vacancy_search_list", Button.byAttribute("data-qa", "search-button" ));
-        logger.info("Main page initialized");
+        logger.debug("Main page initialized");
+    }
+
+    @Override
+    protected List<Overlay> overlays() {
+        return Collections.singletonList(Overlay.dismiss("search modal", "//div[@data-qa='bloko-modal-close']"));
     }
 
     public void clickRegionButton() {
@@ -37,6 +45,10 @@ public class MainPageHH extends BasePage {
         searchButton.click();
         logger.info("Search button clicked");
     }
+
+    public SearchPageHH search() {
+        return navigateTo(this::clickSearchButton, SearchPageHH.class);
+    }
     public void  regionButtonIsDisplayed(){
         regionButton.isDisplayed();
     }
@@ -54,15 +66,6 @@ public class MainPageHH extends BasePage {
         logger.info("Clear text button clicked");
     }
 
-    public void clickModal(){
-        Selenide.$x("//div[@data-qa='bloko-modal-close']").click();
-
-    }
-
-    public boolean  modalIsDisplayed(){
-        return Selenide.$x("//div[@data-qa='bloko-modal-close']").isDisplayed();
-    }
-
     public void enterSearchRequest(String searchRequest) {
         searchInput.setValue(searchRequest);
         logger.info("Entered search request");
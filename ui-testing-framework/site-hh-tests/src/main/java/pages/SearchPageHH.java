@@ -1,45 +1,59 @@
 package pages;
 
 import basePage.BasePage;
+import components.ElementList;
+import components.Lazy;
 import elements.Button;
 import elements.Link;
 import elements.RadioButton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 public class SearchPageHH extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(SearchPageHH.class);
 
-    private final Button saveSearchButton = Button.byContainsAttribute("data-qa", "saved");
-    private final RadioButton radioButton65 = RadioButton.byValue("65000");
-    private final Link employerLink = Link.byText("Работодателям");
-    private final Link CVLink = Link.byContainsText("базе резюме");
+    private final Lazy<Button> saveSearchButton = Lazy.of(() -> Button.byContainsAttribute("data-qa", "saved"));
+    private final Lazy<RadioButton> radioButton65 = Lazy.of(() -> RadioButton.byValue("65000"));
+    private final Lazy<Link> employerLink = Lazy.of(() -> Link.byText("Работодателям"));
+    private final Lazy<Link> CVLink = Lazy.of(() -> Link.byContainsText("базе резюме"));
+    private final ElementList<Link> vacancyTitles = ElementList.byXPath("//a[@data-qa='serp-item__title']", Link::byXPath);
 
     public SearchPageHH() {
         super("https://spb.hh.ru/search/vacancy?text=&area=2&hhtmFrom=main&hhtmFromLabel=vacancy_search_line", Button.byContainsAttribute("data-qa", "saved"));
-        logger.info("Search page initialized");
+        logger.debug("Search page initialized");
     }
 
     public void selectRadioButton65(){
-        radioButton65.select();
+        radioButton65.get().select();
     }
 
     public void radioButton65ShouldBeSelected(){
-        radioButton65.shouldBeSelected();
+        radioButton65.get().shouldBeSelected();
         logger.info("Radio button is selected");
     }
 
     public void radioButton65ShouldNotBeSelected(){
-        radioButton65.shouldNotBeSelected();
+        radioButton65.get().shouldNotBeSelected();
         logger.info("Radio button is not selected");
     }
 
     public void clickEmployerLink(){
-        employerLink.click();
+        employerLink.get().click();
     }
 
     public void cvIsDisplayed(){
-        CVLink.isDisplayed();
+        CVLink.get().isDisplayed();
+    }
+
+    public List<String> vacancyTitles(int limit){
+        return vacancyTitles.stream().limit(limit).map(ElementList.Item::text).collect(Collectors.toList());
+    }
+
+    public boolean hasVacancy(String title){
+        return vacancyTitles.find(title).isPresent();
     }
 
 }
@@ -1,15 +1,18 @@
 package org.example.baseTestHH;
 
-import com.codeborne.selenide.Configuration;
-import com.codeborne.selenide.logevents.SelenideLogger;
-import io.qameta.allure.selenide.AllureSelenide;
+import config.BrowserConfig;
+import driver.DriverPoolExtension;
+import driver.TestContextExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reporting.ReportListener;
+import retry.RetryExtension;
+import warmup.WarmUpExtension;
 
-import static com.codeborne.selenide.Selenide.closeWebDriver;
-
+@ExtendWith({WarmUpExtension.class, DriverPoolExtension.class, TestContextExtension.class, RetryExtension.class})
 public class BaseHHTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseHHTest.class);
 
@@ -17,21 +20,15 @@ public class BaseHHTest {
     public void setUp() {
         logger.info("Запуск теста: Настройка браузера");
 
-        Configuration.browser = System.getProperty("selenide.browser", "edge");
-        Configuration.browserSize = System.getProperty("selenide.browserSize", "1920x1080");
-        Configuration.timeout = Long.parseLong(System.getProperty("selenide.timeout", "10000"));
+        BrowserConfig.apply();
 
-        SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
-                .screenshots(true)
-                .savePageSource(false)
-        );
+        ReportListener.register();
     }
 
     @AfterEach
     public void tearDown() {
-        logger.info("Завершение теста: Закрытие браузера");
-        closeWebDriver();
-        SelenideLogger.removeListener("AllureSelenide");
+        logger.info("Завершение теста: Возврат браузера в пул");
+        ReportListener.unregister();
     }
 }
 
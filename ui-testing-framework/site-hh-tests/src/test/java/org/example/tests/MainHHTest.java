@@ -5,11 +5,13 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import pages.MainPageHH;
 import pages.SearchPageHH;
+import warmup.WarmUp;
 
 public class MainHHTest  extends BaseHHTest {
 
     @Test
     @Tag("hh")
+    @WarmUp(MainPageHH.class)
     public void searchTest() {
         MainPageHH mainPage = new MainPageHH();
         mainPage.openPage();
@@ -19,17 +21,13 @@ public class MainHHTest  extends BaseHHTest {
         mainPage.enterSearchRequest("аналитик");
         mainPage.clearTextButtonIsDisplayed();
 
-        mainPage.clickSearchButton();
-        if (mainPage.modalIsDisplayed()){
-            mainPage.clickModal();
-        }
-
-        SearchPageHH searchPage = new SearchPageHH();
+        SearchPageHH searchPage = mainPage.search();
         searchPage.isDisplayed();
     }
 
     @Test
     @Tag("hh")
+    @WarmUp(MainPageHH.class)
     public void searchClearTest() {
         MainPageHH mainPage = new MainPageHH();
         mainPage.openPage();
@@ -4,11 +4,18 @@ import org.example.baseTestHH.BaseHHTest;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import pages.SearchPageHH;
+import warmup.WarmUp;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SearchHHTest extends BaseHHTest {
 
     @Test
     @Tag("hh")
+    @WarmUp(SearchPageHH.class)
     public void checkboxTest(){
         SearchPageHH searchPage = new SearchPageHH();
         searchPage.openPage();
@@ -20,10 +27,22 @@ public class SearchHHTest extends BaseHHTest {
 
     @Test
     @Tag("hh")
+    @WarmUp(SearchPageHH.class)
     public void linkTest(){
         SearchPageHH searchPage = new SearchPageHH();
         searchPage.openPage();
         searchPage.clickEmployerLink();
         searchPage.cvIsDisplayed();
     }
+
+    @Test
+    @Tag("hh")
+    @WarmUp(SearchPageHH.class)
+    public void vacancyListTest(){
+        SearchPageHH searchPage = new SearchPageHH();
+        searchPage.openPage();
+        List<String> titles = searchPage.vacancyTitles(5);
+        assertFalse(titles.isEmpty());
+        assertTrue(searchPage.hasVacancy(titles.get(0)));
+    }
 }
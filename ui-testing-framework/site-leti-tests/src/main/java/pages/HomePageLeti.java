@@ -21,7 +21,7 @@ public class HomePageLeti extends BasePage {
 
     public HomePageLeti() {
         super("https://id.etu.ru/", Link.byHref("/personal"));
-        logger.info("Home page initialized");
+        logger.debug("Home page initialized");
     }
 
     public void logout() {
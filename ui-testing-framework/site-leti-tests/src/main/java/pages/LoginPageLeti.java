@@ -1,11 +1,14 @@
 package pages;
 
 import basePage.BasePage;
+import components.Lazy;
 import elements.Button;
 import elements.Checkbox;
+import elements.Form;
 import elements.TextInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import session.SessionCache;
 
 import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Selenide.$x;
@@ -14,41 +17,52 @@ public class LoginPageLeti extends BasePage {
     private static final Logger logger = LoggerFactory.getLogger(LoginPageLeti.class);
 
 
-    private final TextInput usernameField = TextInput.byName("email");
-    private final TextInput passwordField = TextInput.byName("password");
+    private final Lazy<TextInput> usernameField = Lazy.of(() -> TextInput.byName("email"));
+    private final Lazy<TextInput> passwordField = Lazy.of(() -> TextInput.byName("password"));
 
-    private final Button loginButton = Button.byXPath("//button[contains(@class, 'btn-primary')]");
+    private final Lazy<Button> loginButton = Lazy.of(() -> Button.byXPath("//button[contains(@class, 'btn-primary')]"));
 
 
 
-    private final Checkbox rememberCheckbox = Checkbox.byId("remember");
+    private final Lazy<Checkbox> rememberCheckbox = Lazy.of(() -> Checkbox.byId("remember"));
 
     public LoginPageLeti() {
         super("https://id.etu.ru/login", Button.byContainsClass("btn-primary"));
-        logger.info("Login page initialized");
+        logger.debug("Login page initialized");
     }
 
     public void enterUsername(String username) {
-        usernameField.setValue(username);
+        usernameField.get().setValue(username);
         logger.info("Entered username: {}", username);
     }
 
     public void enterPassword(String password) {
-        passwordField.setValue(password);
+        passwordField.get().setValue(password);
         logger.info("Entered password");
     }
 
     public void clickLoginButton() {
-        loginButton.click();
+        loginButton.get().click();
         logger.info("Login button clicked");
     }
 
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        Form.create()
+                .set(usernameField.get(), username)
+                .set(passwordField.get(), password)
+                .fill();
+        logger.info("Entered username: {} and password", username);
         clickLoginButton();
     }
 
+    public void authenticate(String username, String password) {
+        SessionCache.shared().restoreOrLogin("leti:" + username, url, () -> {
+            openPage();
+            login(username, password);
+            new HomePageLeti().isDisplayed();
+        }, () -> new HomePageLeti().openIfAccessible());
+    }
+
     public void isErrorMessageDisplayed() {
         $x("//span[contains(@class, 'text-error')]").shouldBe(visible);
     }
@@ -58,19 +72,19 @@ public class LoginPageLeti extends BasePage {
     }
 
     public void clickRememberCheckbox(){
-        rememberCheckbox.check();
+        rememberCheckbox.get().check();
         logger.info("Remember Checkbox button clicked");
     }
 
     public void rememberCheckboxIsChecked(){
-        rememberCheckbox.isChecked();
+        rememberCheckbox.get().isChecked();
     }
 
     public void rememberShouldBeChecked() {
-        rememberCheckbox.shouldBeChecked();
+        rememberCheckbox.get().shouldBeChecked();
     }
 
     public void rememberShouldNotBeChecked() {
-        rememberCheckbox.shouldNotBeChecked();
+        rememberCheckbox.get().shouldNotBeChecked();
     }
 }
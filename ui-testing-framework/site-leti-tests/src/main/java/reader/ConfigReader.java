@@ -1,24 +0,0 @@
-package reader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
-
-public class ConfigReader {
-    private static Properties properties = new Properties();
-
-    static {
-        try (InputStream input = ConfigReader.class.getClassLoader().getResourceAsStream("config.properties")) {
-            if (input == null) {
-                throw new RuntimeException("Файл config.properties не найден");
-            }
-            properties.load(input);
-        } catch (IOException e) {
-            throw new RuntimeException("Ошибка загрузки config.properties", e);
-        }
-    }
-
-    public static String getProperty(String key) {
-        return properties.getProperty(key);
-    }
-}
-
@@ -4,7 +4,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import pages.HomePageLeti;
 import pages.LoginPageLeti;
-import reader.ConfigReader;
+import config.FrameworkConfig;
 
 
 public class LoginLetiTest extends BaseLetiTest {
@@ -12,8 +12,8 @@ public class LoginLetiTest extends BaseLetiTest {
     @Test
     @Tag("leti")
     public void testLoginButtonClick() {
-        String email = ConfigReader.getProperty("email");
-        String password = ConfigReader.getProperty("password");
+        String email = FrameworkConfig.get().getString("email");
+        String password = FrameworkConfig.get().getString("password");
 
         LoginPageLeti loginPage = new LoginPageLeti();
         loginPage.openPage();
@@ -25,6 +25,12 @@ public class LoginLetiTest extends BaseLetiTest {
         homePage.isDisplayed();
     }
 
+    @Test
+    @Tag("leti")
+    public void testAuthenticatedSession() {
+        authenticate().isDisplayed();
+    }
+
     @Test
     @Tag("leti")
     public void testLoginWithEmptyFields() {
@@ -38,7 +44,7 @@ public class LoginLetiTest extends BaseLetiTest {
     @Test
     @Tag("leti")
     public void testLoginWithInvalidPassword() {
-        String email = ConfigReader.getProperty("email");
+        String email = FrameworkConfig.get().getString("email");
 
         LoginPageLeti loginPage = new LoginPageLeti();
         loginPage.openPage();
@@ -52,7 +58,7 @@ public class LoginLetiTest extends BaseLetiTest {
     @Test
     @Tag("leti")
     public void testLoginWithInvalidEmail() {
-        String password = ConfigReader.getProperty("password");
+        String password = FrameworkConfig.get().getString("password");
 
         LoginPageLeti loginPage = new LoginPageLeti();
         loginPage.openPage();
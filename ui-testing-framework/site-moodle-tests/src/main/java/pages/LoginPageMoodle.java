@@ -3,9 +3,11 @@ package pages;
 import basePage.BasePage;
 import elements.Button;
 import elements.Checkbox;
+import elements.Form;
 import elements.TextInput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import session.SessionCache;
 
 import static com.codeborne.selenide.Condition.visible;
 import static com.codeborne.selenide.Selenide.$x;
@@ -29,7 +31,7 @@ public class LoginPageMoodle extends BasePage {
 
     public LoginPageMoodle() {
         super("https://vec.etu.ru/moodle/login/", Button.byId("loginbtn"));
-        logger.info("Login page initialized");
+        logger.debug("Login page initialized");
     }
 
     public void enterUsername(String username) {
@@ -48,11 +50,22 @@ public class LoginPageMoodle extends BasePage {
     }
 
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        Form.create()
+                .set(usernameInput, username)
+                .set(passwordInput, password)
+                .fill();
+        logger.info("Entered username: {} and password", username);
         clickLoginButton();
     }
 
+    public void authenticate(String username, String password) {
+        SessionCache.shared().restoreOrLogin("moodle:" + username, url, () -> {
+            openPage();
+            login(username, password);
+            new MainPageMoodle().isDisplayed();
+        }, () -> new MainPageMoodle().openIfAccessible());
+    }
+
     public void isErrorMessageDisplayed() {
         $x("//div[contains(text(), \"Неверный\")]").shouldBe(visible);
     }
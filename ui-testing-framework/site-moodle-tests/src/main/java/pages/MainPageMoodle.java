@@ -12,6 +12,6 @@ public class MainPageMoodle extends BasePage {
 
     public MainPageMoodle() {
         super("https://vec.etu.ru/moodle/", "//h5[@id=\"instance-15219-header\"]");
-        logger.info("Login page initialized");
+        logger.debug("Login page initialized");
     }
 }
\ No newline at end of file
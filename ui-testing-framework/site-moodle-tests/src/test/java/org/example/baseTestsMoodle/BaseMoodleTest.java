@@ -1,15 +1,20 @@
 package org.example.baseTestsMoodle;
 
-import com.codeborne.selenide.Configuration;
-import com.codeborne.selenide.logevents.SelenideLogger;
-import io.qameta.allure.selenide.AllureSelenide;
+import config.BrowserConfig;
+import config.FrameworkConfig;
+import driver.DriverPoolExtension;
+import driver.TestContextExtension;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pages.LoginPageMoodle;
+import pages.MainPageMoodle;
+import reporting.ReportListener;
+import retry.RetryExtension;
 
-import static com.codeborne.selenide.Selenide.closeWebDriver;
-
+@ExtendWith({DriverPoolExtension.class, TestContextExtension.class, RetryExtension.class})
 public class BaseMoodleTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseMoodleTest.class);
 
@@ -17,22 +22,27 @@ public class BaseMoodleTest {
     public void setUp() {
         logger.info("Запуск теста: Настройка браузера");
 
-        Configuration.browser = System.getProperty("selenide.browser", "edge");
-        Configuration.browserSize = System.getProperty("selenide.browserSize", "1920x1080");
-        Configuration.timeout = Long.parseLong(System.getProperty("selenide.timeout", "10000"));
+        BrowserConfig.apply();
 
-        SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
-                .screenshots(true)
-                .savePageSource(false)
-        );
+        ReportListener.register();
     }
 
     @AfterEach
     public void tearDown() {
-        logger.info("Завершение теста: Закрытие браузера");
-        closeWebDriver();
-        SelenideLogger.removeListener("AllureSelenide");
+        logger.info("Завершение теста: Возврат браузера в пул");
+        ReportListener.unregister();
     }
-}
-
 
+    /**
+     * Входит под учётной записью из настроек ({@code email}, {@code password}). Сессия восстанавливается
+     * из снимка {@link session.SessionCache}, а форма входа заполняется, только если снимка нет или он устарел.
+     *
+     * @return открытая страница, доступная после входа.
+     */
+    protected MainPageMoodle authenticate() {
+        String email = FrameworkConfig.get().getString("email");
+        String password = FrameworkConfig.get().getString("password");
+        new LoginPageMoodle().authenticate(email, password);
+        return new MainPageMoodle();
+    }
+}
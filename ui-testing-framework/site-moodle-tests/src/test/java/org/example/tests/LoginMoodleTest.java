@@ -5,14 +5,14 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import pages.LoginPageMoodle;
 import pages.MainPageMoodle;
-import reader.ConfigReader;
+import config.FrameworkConfig;
 
 public class LoginMoodleTest extends BaseMoodleTest {
     @Test
     @Tag("moodle")
     public void testLoginButtonClick() {
-        String email = ConfigReader.getProperty("email");
-        String password = ConfigReader.getProperty("password");
+        String email = FrameworkConfig.get().getString("email");
+        String password = FrameworkConfig.get().getString("password");
 
         LoginPageMoodle loginPage = new LoginPageMoodle();
         loginPage.openPage();
@@ -24,6 +24,12 @@ public class LoginMoodleTest extends BaseMoodleTest {
         homePage.isDisplayed();
     }
 
+    @Test
+    @Tag("moodle")
+    public void testAuthenticatedSession() {
+        authenticate().isDisplayed();
+    }
+
     @Test
     @Tag("moodle")
     public void testLoginWithEmptyFields() {
@@ -37,7 +43,7 @@ public class LoginMoodleTest extends BaseMoodleTest {
     @Test
     @Tag("moodle")
     public void testLoginWithInvalidPassword() {
-        String email = ConfigReader.getProperty("email");
+        String email = FrameworkConfig.get().getString("email");
 
         LoginPageMoodle loginPage = new LoginPageMoodle();
         loginPage.openPage();
@@ -51,7 +57,7 @@ public class LoginMoodleTest extends BaseMoodleTest {
     @Test
     @Tag("moodle")
     public void testLoginWithInvalidEmail() {
-        String password = ConfigReader.getProperty("password");
+        String password = FrameworkConfig.get().getString("password");
 
         LoginPageMoodle loginPage = new LoginPageMoodle();
         loginPage.openPage();